@@ -0,0 +1,65 @@
+package com.crimereport.xpose.services;
+
+import com.crimereport.xpose.config.OutboundHttpClientFactory;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class BenchmarkFixtures {
+
+    static final String SHORT_DESCRIPTION = "Someone stole my bike near the market";
+
+    static final String LONG_DESCRIPTION = "I want to report an incident that happened yesterday evening around 7 pm "
+            + "near the bus stand. Two men on a motorcycle snatched a bag from an elderly woman and threatened her "
+            + "with a knife when she tried to resist. Several shopkeepers witnessed the robbery and one of them "
+            + "called the police. The men were wearing helmets and drove towards the highway at high speed. "
+            + "The location has no street lights and similar theft has occurred at the same time last week.";
+
+    private BenchmarkFixtures() {
+    }
+
+    static OutboundHttpClientFactory httpClientFactory() {
+        OutboundHttpClientFactory factory = new OutboundHttpClientFactory();
+        ReflectionTestUtils.setField(factory, "environment", new StandardEnvironment());
+        ReflectionTestUtils.setField(factory, "restTemplateBuilder", new RestTemplateBuilder());
+        ReflectionTestUtils.setField(factory, "webClientBuilder", WebClient.builder());
+        return factory;
+    }
+
+    static Map<String, Object> preMlResult(boolean spam) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("is_spam", spam);
+        result.put("is_hate_speech", false);
+        result.put("is_toxic", false);
+        result.put("needs_review", false);
+        result.put("urgency", "MEDIUM");
+        result.put("confidence", 0.82);
+        result.put("spam_score", spam ? 0.21 : 0.04);
+        result.put("toxicity_analysis", Map.of("toxicity", 0.08, "hate_speech_score", 0.02, "severe_toxicity", 0.01));
+        result.put("translated_description", LONG_DESCRIPTION);
+        return result;
+    }
+
+    static Map<String, Object> postMlResult() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("is_spam", false);
+        result.put("is_hate_speech", false);
+        result.put("is_toxic", false);
+        result.put("needs_review", true);
+        result.put("urgency", "HIGH");
+        result.put("confidence", 0.91);
+        result.put("spam_score", 0.03);
+        result.put("report_quality", "HIGH");
+        result.put("word_count", 78);
+        result.put("char_count", 431);
+        result.put("shap_explanation", Map.of(
+                "top_features", List.of("knife", "robbery", "threatened", "police", "snatched"),
+                "values", List.of(0.31, 0.27, 0.12, 0.08, 0.05)));
+        return result;
+    }
+}
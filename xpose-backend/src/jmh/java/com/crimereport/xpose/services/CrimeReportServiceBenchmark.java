@@ -0,0 +1,47 @@
+package com.crimereport.xpose.services;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CrimeReportServiceBenchmark {
+
+    @Param({"short", "long"})
+    String description;
+
+    private CrimeReportService service;
+    private String text;
+    private Map<String, Object> spamResult;
+    private Map<String, Object> preResult;
+    private Map<String, Object> postResult;
+
+    @Setup
+    public void setup() {
+        KeywordService keywordService = new KeywordService();
+        keywordService.reload();
+        service = new CrimeReportService();
+        ReflectionTestUtils.setField(service, "keywordService", keywordService);
+        text = "long".equals(description) ? BenchmarkFixtures.LONG_DESCRIPTION : BenchmarkFixtures.SHORT_DESCRIPTION;
+        spamResult = BenchmarkFixtures.preMlResult(true);
+        preResult = BenchmarkFixtures.preMlResult(false);
+        postResult = BenchmarkFixtures.postMlResult();
+    }
+
+    @Benchmark
+    public boolean isLikelyFalsePositive() {
+        return service.isLikelyFalsePositive(spamResult, text);
+    }
+
+    @Benchmark
+    public Map<String, Object> combineMlResults() {
+        return service.combineMlResults(preResult, postResult);
+    }
+}
@@ -0,0 +1,47 @@
+package com.crimereport.xpose.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonRoundTripBenchmark {
+
+    private CrimeReportService crimeReportService;
+    private ReportViewService reportViewService;
+    private Map<String, Object> mlResult;
+    private String json;
+
+    @Setup
+    public void setup() {
+        crimeReportService = new CrimeReportService();
+        reportViewService = new ReportViewService(BenchmarkFixtures.httpClientFactory());
+        ReflectionTestUtils.setField(reportViewService, "objectMapper", new ObjectMapper());
+        mlResult = crimeReportService.combineMlResults(BenchmarkFixtures.preMlResult(false),
+                BenchmarkFixtures.postMlResult());
+        json = crimeReportService.convertMapToJson(mlResult);
+    }
+
+    @Benchmark
+    public String convertMapToJson() {
+        return crimeReportService.convertMapToJson(mlResult);
+    }
+
+    @Benchmark
+    public Map<String, Object> parseJsonToMap() {
+        return reportViewService.parseJsonToMap(json);
+    }
+
+    @Benchmark
+    public Map<String, Object> roundTrip() {
+        return reportViewService.parseJsonToMap(crimeReportService.convertMapToJson(mlResult));
+    }
+}
@@ -0,0 +1,33 @@
+package com.crimereport.xpose.services;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PoliceStationServiceBenchmark {
+
+    private PoliceStationService service;
+
+    @Setup
+    public void setup() {
+        service = new PoliceStationService(BenchmarkFixtures.httpClientFactory());
+        service.loadDistrictCoordinates();
+    }
+
+    @Benchmark
+    public Map<String, String> findStateAndDistrict() {
+        return service.findStateAndDistrict(19.0760, 72.8777);
+    }
+
+    @Benchmark
+    public double calculateDistance() {
+        return service.calculateDistance(19.0760, 72.8777, 28.7041, 77.1025);
+    }
+}
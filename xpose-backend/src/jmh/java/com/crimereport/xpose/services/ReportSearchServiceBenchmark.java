@@ -0,0 +1,57 @@
+package com.crimereport.xpose.services;
+
+import com.crimereport.xpose.dto.CrimeReportList;
+import com.crimereport.xpose.models.CrimeReport;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportSearchServiceBenchmark {
+
+    private static final String[] CRIME_TYPES = {"Drug Trafficking", "Drug Possession", "Theft", "Assault", "Fraud"};
+
+    private ReportSearchService service;
+    private List<CrimeReportList> reports;
+    private Map<String, Object> filters;
+
+    @Setup
+    public void setup() {
+        service = new ReportSearchService();
+        reports = new ArrayList<>();
+        CrimeReport.ReportStatus[] statuses = CrimeReport.ReportStatus.values();
+        CrimeReport.UrgencyLevel[] urgencies = CrimeReport.UrgencyLevel.values();
+        CrimeReport.AdminStatus[] adminStatuses = CrimeReport.AdminStatus.values();
+        CrimeReport.PoliceStatus[] policeStatuses = CrimeReport.PoliceStatus.values();
+        for (int i = 0; i < 1000; i++) {
+            reports.add(new CrimeReportList("report-" + i, CRIME_TYPES[i % CRIME_TYPES.length], (long) i, 1L,
+                    "Narcotics", BenchmarkFixtures.SHORT_DESCRIPTION, BenchmarkFixtures.SHORT_DESCRIPTION,
+                    "Main Road", "Mumbai", "Maharashtra", "Central Station",
+                    statuses[i % statuses.length], urgencies[i % urgencies.length], LocalDateTime.now(),
+                    null, null, adminStatuses[i % adminStatuses.length], policeStatuses[i % policeStatuses.length]));
+        }
+
+        filters = new LinkedHashMap<>();
+        filters.put("urgency", urgencies[0].toString());
+        filters.put("adminStatus", adminStatuses[0].toString());
+        filters.put("crimeType", "drug");
+    }
+
+    @Benchmark
+    public void applyFilters(Blackhole blackhole) {
+        for (CrimeReportList report : reports) {
+            blackhole.consume(service.applyFilters(report, filters));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.crimereport.xpose.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TrackingIdGeneratorBenchmark {
+
+    private char[] core;
+
+    @Setup
+    public void setup() {
+        core = "7K3QZ9XWMP2RT8VN".toCharArray();
+    }
+
+    @Benchmark
+    public String newTrackingId() {
+        return TrackingIdGenerator.newTrackingId();
+    }
+
+    @Benchmark
+    public String newRejectedId() {
+        return TrackingIdGenerator.newRejectedId();
+    }
+
+    @Benchmark
+    public char checksum() {
+        return TrackingIdGenerator.checksum(core);
+    }
+}
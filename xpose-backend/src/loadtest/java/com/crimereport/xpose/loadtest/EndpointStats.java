@@ -0,0 +1,64 @@
+package com.crimereport.xpose.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class EndpointStats {
+
+    private final String endpoint;
+    private long[] latenciesMicros = new long[1024];
+    private int count;
+    private long errors;
+
+    public EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public synchronized void record(long latencyNanos, boolean success) {
+        if (count == latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, count * 2);
+        }
+        latenciesMicros[count++] = latencyNanos / 1000;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    public synchronized Summary summarize(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(latenciesMicros, count);
+        Arrays.sort(sorted);
+        return new Summary(endpoint, count, errors, count / elapsedSeconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                count == 0 ? 0 : sorted[count - 1] / 1000.0);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1000.0;
+    }
+
+    public record Summary(String endpoint, long requests, long errors, double throughput,
+                          double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+
+        public double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+
+        public Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("requests", requests);
+            map.put("errors", errors);
+            map.put("errorRate", errorRate());
+            map.put("throughputPerSecond", throughput);
+            map.put("p50Ms", p50Ms);
+            map.put("p95Ms", p95Ms);
+            map.put("p99Ms", p99Ms);
+            map.put("maxMs", maxMs);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.crimereport.xpose.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public class LatencyProfile {
+
+    private static final double Z_99 = 2.326;
+
+    private final double medianMs;
+    private final double p99Ms;
+    private final double errorRate;
+    private final double sigma;
+
+    public LatencyProfile(double medianMs, double p99Ms, double errorRate) {
+        if (medianMs <= 0 || p99Ms < medianMs) {
+            throw new IllegalArgumentException("Latency profile needs 0 < median <= p99, got " + medianMs + "," + p99Ms);
+        }
+        this.medianMs = medianMs;
+        this.p99Ms = p99Ms;
+        this.errorRate = errorRate;
+        this.sigma = Math.log(p99Ms / medianMs) / Z_99;
+    }
+
+    public static LatencyProfile parse(String latency, double errorRate) {
+        String[] parts = latency.split(",");
+        double median = Double.parseDouble(parts[0].trim());
+        double p99 = parts.length > 1 ? Double.parseDouble(parts[1].trim()) : median;
+        return new LatencyProfile(median, p99, errorRate);
+    }
+
+    public long sampleMillis() {
+        double gaussian = ThreadLocalRandom.current().nextGaussian();
+        return Math.round(medianMs * Math.exp(sigma * gaussian));
+    }
+
+    public boolean shouldFail() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("median=%.0fms p99=%.0fms errors=%.1f%%", medianMs, p99Ms, errorRate * 100);
+    }
+}
@@ -0,0 +1,400 @@
+package com.crimereport.xpose.loadtest;
+
+import com.crimereport.xpose.XposeApplication;
+import com.crimereport.xpose.models.CrimeCategory;
+import com.crimereport.xpose.models.CrimeType;
+import com.crimereport.xpose.repository.CrimeCategoryRepository;
+import com.crimereport.xpose.repository.CrimeTypeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public class LoadTestRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private static final String DEFAULT_MIX = "submit:15,list:30,detail:20,search:15,status:15,chain:3,nearby:2";
+
+    private static final List<String> SEARCH_TERMS = List.of("drug", "ganja", "heroin", "theft", "market", "school",
+            "college", "station", "night", "bus", "park", "road", "cash", "bike", "vehicle", "selling");
+
+    private static final List<String> DESCRIPTIONS = List.of(
+            "A group of young men has been selling ganja near the bus stand every evening after 8 pm. "
+                    + "They hide the packets behind the tea stall and customers come on bikes.",
+            "I saw two people exchanging small white packets for cash outside the college gate during lunch break. "
+                    + "This has been happening daily for the past two weeks.",
+            "There is a house near the railway crossing where people come late at night and leave within minutes. "
+                    + "Neighbours suspect drugs are being sold from the back door.",
+            "Someone is supplying pills to school students near the park. The supplier wears a red jacket and "
+                    + "rides a black scooter without a number plate.");
+
+    enum Operation {
+        SUBMIT, LIST, DETAIL, SEARCH, STATUS, CHAIN, NEARBY;
+
+        String label() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final Map<String, String> options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> reportIds = new ArrayList<>();
+    private HttpClient httpClient;
+    private SearchClient searchClient;
+    private String baseUrl;
+    private CrimeType crimeType;
+    private Operation[] weightedOperations;
+    private long requestTimeoutMs;
+
+    private LoadTestRunner(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        new LoadTestRunner(options).run();
+    }
+
+    private void run() throws Exception {
+        Map<String, LatencyProfile> profiles = new LinkedHashMap<>();
+        profiles.put(StubServers.ML, stubProfile(StubServers.ML, "120,600", 0.01));
+        profiles.put(StubServers.GEMINI, stubProfile(StubServers.GEMINI, "700,2500", 0.02));
+        profiles.put(StubServers.BLOCKCHAIN, stubProfile(StubServers.BLOCKCHAIN, "40,250", 0.0));
+        profiles.put(StubServers.GOOGLE, stubProfile(StubServers.GOOGLE, "80,400", 0.0));
+
+        List<Integer> steps = Arrays.stream(option("loadtest.steps", "4,8,16,32,64").split(","))
+                .map(String::trim).map(Integer::parseInt).toList();
+        int stepSeconds = Integer.parseInt(option("loadtest.step-seconds", "30"));
+        int warmupSeconds = Integer.parseInt(option("loadtest.warmup-seconds", "15"));
+        long thinkTimeMs = Long.parseLong(option("loadtest.think-time-ms", "0"));
+        double maxErrorRate = Double.parseDouble(option("loadtest.max-error-rate", "0.01"));
+        requestTimeoutMs = Long.parseLong(option("loadtest.request-timeout-ms", "30000"));
+        weightedOperations = parseMix(option("loadtest.mix", DEFAULT_MIX));
+        Path reportFile = Path.of(option("loadtest.report", "target/loadtest-report.json"));
+
+        try (StubServers stubs = new StubServers(profiles);
+             ConfigurableApplicationContext context = startApplication(stubs)) {
+            baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+            crimeType = seedCrimeType(context);
+            httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            searchClient = new SearchClient(baseUrl.replace("http://", "ws://") + "/ws", SEARCH_TERMS);
+            loadExistingReportIds();
+
+            logger.info("Warming up for {}s at concurrency {}", warmupSeconds, steps.get(0));
+            runStep(steps.get(0), warmupSeconds, thinkTimeMs);
+
+            List<Map<String, Object>> stepResults = new ArrayList<>();
+            Map<String, List<EndpointStats.Summary>> history = new LinkedHashMap<>();
+            for (int concurrency : steps) {
+                Map<String, EndpointStats.Summary> summaries = runStep(concurrency, stepSeconds, thinkTimeMs);
+                printStep(concurrency, summaries);
+
+                Map<String, Object> endpoints = new LinkedHashMap<>();
+                summaries.forEach((endpoint, summary) -> {
+                    endpoints.put(endpoint, summary.toMap());
+                    history.computeIfAbsent(endpoint, key -> new ArrayList<>()).add(summary);
+                });
+                stepResults.add(Map.of("concurrency", concurrency, "endpoints", endpoints));
+            }
+
+            Map<String, Object> saturation = new LinkedHashMap<>();
+            history.forEach((endpoint, summaries) ->
+                    saturation.put(endpoint, saturationPoint(steps, summaries, maxErrorRate)));
+            saturation.forEach((endpoint, point) -> logger.info("Saturation {}: {}", endpoint, point));
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("finishedAt", Instant.now().toString());
+            report.put("stepSeconds", stepSeconds);
+            report.put("thinkTimeMs", thinkTimeMs);
+            report.put("mix", option("loadtest.mix", DEFAULT_MIX));
+            Map<String, String> stubSettings = new LinkedHashMap<>();
+            profiles.forEach((name, profile) -> stubSettings.put(name, profile.toString()));
+            report.put("stubs", stubSettings);
+            report.put("steps", stepResults);
+            report.put("saturation", saturation);
+            report.put("stubCalls", stubs.callCounts());
+            Files.createDirectories(reportFile.toAbsolutePath().getParent());
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+            logger.info("Load test report written to {}", reportFile.toAbsolutePath());
+        } finally {
+            if (searchClient != null) {
+                searchClient.close();
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(StubServers stubs) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.address", "127.0.0.1");
+        properties.put("server.port", "0");
+        properties.put("newsapi.key", "loadtest");
+        properties.put("jwt.secret", "bG9hZHRlc3Qtand0LXNlY3JldC1sb2FkdGVzdC1qd3Qtc2VjcmV0LWxvYWR0ZXN0");
+        properties.put("placesapi.key", "loadtest");
+        properties.put("recaptcha.site-key", "loadtest");
+        properties.put("recaptcha.secret-key", "loadtest");
+        properties.put("gemini.api.key", "loadtest");
+        properties.put("app.upload.dir", "target/loadtest/uploads");
+        properties.put("app.evidence.upload.dir", "target/loadtest/uploads/evidence");
+        properties.put("app.http.gemini.http2", "false");
+        properties.put("app.http.google-maps.http2", "false");
+        properties.put("logging.level.com.crimereport.xpose", "WARN");
+        for (String arg : stubs.applicationArgs()) {
+            properties.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        options.forEach((key, value) -> {
+            if (!key.startsWith("loadtest.")) {
+                properties.put(key, value);
+            }
+        });
+
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return new SpringApplicationBuilder(XposeApplication.class).run(args);
+    }
+
+    private CrimeType seedCrimeType(ConfigurableApplicationContext context) {
+        CrimeTypeRepository crimeTypeRepository = context.getBean(CrimeTypeRepository.class);
+        return crimeTypeRepository.findByName("Load Test Drug Peddling").orElseGet(() -> {
+            CrimeCategoryRepository categoryRepository = context.getBean(CrimeCategoryRepository.class);
+            CrimeCategory category = categoryRepository.findByName("Load Test").orElseGet(() -> {
+                CrimeCategory created = new CrimeCategory();
+                created.setName("Load Test");
+                created.setDescription("Created by the load test harness");
+                return categoryRepository.save(created);
+            });
+            CrimeType type = new CrimeType();
+            type.setName("Load Test Drug Peddling");
+            type.setDescription("Created by the load test harness");
+            type.setCategory(category);
+            type.setPriority(CrimeType.Priority.MEDIUM);
+            return crimeTypeRepository.save(type);
+        });
+    }
+
+    private void loadExistingReportIds() throws Exception {
+        HttpResponse<String> response = get("/api/reports?page=0&size=200");
+        if (response.statusCode() == 200) {
+            Map<String, Object> body = objectMapper.readValue(response.body(), Map.class);
+            for (Map<String, Object> report : (List<Map<String, Object>>) body.getOrDefault("reports", List.of())) {
+                rememberReportId(String.valueOf(report.get("reportId")));
+            }
+        }
+        logger.info("Loaded {} existing report ids", reportIds.size());
+    }
+
+    private Map<String, EndpointStats.Summary> runStep(int concurrency, int seconds, long thinkTimeMs)
+            throws InterruptedException {
+        Map<Operation, EndpointStats> stats = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats(operation.label()));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        long started = System.nanoTime();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                users.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+                        long start = System.nanoTime();
+                        boolean success = execute(operation);
+                        stats.get(operation).record(System.nanoTime() - start, success);
+                        if (thinkTimeMs > 0) {
+                            Thread.sleep(thinkTimeMs);
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        double elapsed = (System.nanoTime() - started) / 1e9;
+
+        Map<String, EndpointStats.Summary> summaries = new LinkedHashMap<>();
+        stats.forEach((operation, endpointStats) -> {
+            EndpointStats.Summary summary = endpointStats.summarize(elapsed);
+            if (summary.requests() > 0) {
+                summaries.put(operation.label(), summary);
+            }
+        });
+        return summaries;
+    }
+
+    private boolean execute(Operation operation) throws InterruptedException {
+        try {
+            return switch (operation) {
+                case SUBMIT -> submit();
+                case LIST -> get("/api/reports?page=" + ThreadLocalRandom.current().nextInt(5) + "&size=20").statusCode() == 200;
+                case DETAIL -> get("/api/reports/" + randomReportId()).statusCode() == 200;
+                case STATUS -> get("/api/crime-reports/status/" + randomReportId()).statusCode() == 200;
+                case SEARCH -> searchClient.search(requestTimeoutMs);
+                case CHAIN -> get("/api/reports/chain").statusCode() == 200;
+                case NEARBY -> get("/api/police-stations?lat=18.93&lng=72.83&radius=5000").statusCode() == 200;
+            };
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private boolean submit() throws IOException, InterruptedException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("categoryId", crimeType.getCategory().getId());
+        report.put("categoryName", crimeType.getCategory().getName());
+        report.put("crimeType", crimeType.getName());
+        report.put("description", DESCRIPTIONS.get(ThreadLocalRandom.current().nextInt(DESCRIPTIONS.size())));
+        report.put("place", "Near Colaba bus depot");
+        report.put("state", "Maharashtra");
+        report.put("district", "Mumbai");
+        report.put("policeStation", "Colaba Police Station");
+        report.put("latitude", 18.90 + ThreadLocalRandom.current().nextDouble(0.1));
+        report.put("longitude", 72.80 + ThreadLocalRandom.current().nextDouble(0.1));
+
+        String boundary = "xpose-loadtest-" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+        String body = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"crimeReport\"\r\n"
+                + "Content-Type: application/json\r\n\r\n"
+                + objectMapper.writeValueAsString(report) + "\r\n"
+                + "--" + boundary + "--\r\n";
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/crime-reports/submit"))
+                .timeout(Duration.ofMillis(requestTimeoutMs))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            return false;
+        }
+        Object reportId = objectMapper.readValue(response.body(), Map.class).get("reportId");
+        if (reportId != null) {
+            rememberReportId(reportId.toString());
+        }
+        return true;
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofMillis(requestTimeoutMs))
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private void rememberReportId(String reportId) {
+        synchronized (reportIds) {
+            if (reportIds.size() < 10000) {
+                reportIds.add(reportId);
+            } else {
+                reportIds.set(ThreadLocalRandom.current().nextInt(reportIds.size()), reportId);
+            }
+        }
+    }
+
+    private String randomReportId() {
+        synchronized (reportIds) {
+            if (reportIds.isEmpty()) {
+                return "unknown";
+            }
+            return reportIds.get(ThreadLocalRandom.current().nextInt(reportIds.size()));
+        }
+    }
+
+    private Map<String, Object> saturationPoint(List<Integer> steps, List<EndpointStats.Summary> summaries,
+                                                double maxErrorRate) {
+        int offset = steps.size() - summaries.size();
+        for (int i = 0; i < summaries.size(); i++) {
+            EndpointStats.Summary current = summaries.get(i);
+            String reason = null;
+            if (current.errorRate() > maxErrorRate) {
+                reason = String.format("error rate %.1f%% above %.1f%%", current.errorRate() * 100, maxErrorRate * 100);
+            } else if (i > 0) {
+                EndpointStats.Summary previous = summaries.get(i - 1);
+                if (current.throughput() < previous.throughput() * 1.10 && current.p99Ms() > previous.p99Ms() * 1.5) {
+                    reason = String.format("throughput flat (%.1f -> %.1f/s) while p99 rose %.0f -> %.0fms",
+                            previous.throughput(), current.throughput(), previous.p99Ms(), current.p99Ms());
+                }
+            }
+            if (reason != null) {
+                EndpointStats.Summary knee = i > 0 ? summaries.get(i - 1) : current;
+                return Map.of(
+                        "concurrency", steps.get(offset + Math.max(0, i - 1)),
+                        "throughputPerSecond", knee.throughput(),
+                        "p99Ms", knee.p99Ms(),
+                        "reason", reason);
+            }
+        }
+        EndpointStats.Summary last = summaries.get(summaries.size() - 1);
+        return Map.of(
+                "concurrency", steps.get(steps.size() - 1),
+                "throughputPerSecond", last.throughput(),
+                "p99Ms", last.p99Ms(),
+                "reason", "not saturated within the configured steps");
+    }
+
+    private void printStep(int concurrency, Map<String, EndpointStats.Summary> summaries) {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%nconcurrency %d%n%-8s %9s %7s %10s %9s %9s %9s %9s%n", concurrency,
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        summaries.forEach((endpoint, s) -> table.append(String.format("%-8s %9d %7d %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                endpoint, s.requests(), s.errors(), s.throughput(), s.p50Ms(), s.p95Ms(), s.p99Ms(), s.maxMs())));
+        logger.info(table.toString());
+    }
+
+    private Operation[] parseMix(String mix) {
+        List<Operation> operations = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            Operation operation = Operation.valueOf(parts[0].trim().toUpperCase());
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        }
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix must name at least one operation");
+        }
+        return operations.toArray(Operation[]::new);
+    }
+
+    private LatencyProfile stubProfile(String dependency, String latency, double errorRate) {
+        return LatencyProfile.parse(
+                option("loadtest.stub." + dependency + ".latency-ms", latency),
+                Double.parseDouble(option("loadtest.stub." + dependency + ".error-rate", String.valueOf(errorRate))));
+    }
+
+    private String option(String key, String defaultValue) {
+        return options.getOrDefault(key, defaultValue);
+    }
+}
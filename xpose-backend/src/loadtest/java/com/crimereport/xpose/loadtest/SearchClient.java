@@ -0,0 +1,83 @@
+package com.crimereport.xpose.loadtest;
+
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class SearchClient implements AutoCloseable {
+
+    private final WebSocketStompClient stompClient;
+    private final StompSession session;
+    private final BlockingQueue<String> queries;
+    private final Map<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+
+    public SearchClient(String url, List<String> queries) throws Exception {
+        this.queries = new LinkedBlockingQueue<>(queries);
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        session = stompClient.connectAsync(url, new StompSessionHandlerAdapter() {
+        }).get(10, TimeUnit.SECONDS);
+
+        session.subscribe("/topic/search.results", handler(List.class, payload -> {
+        }));
+        session.subscribe("/topic/search.stats", handler(Map.class, payload -> {
+            CompletableFuture<Void> done = pending.remove(String.valueOf(((Map<?, ?>) payload).get("query")));
+            if (done != null) {
+                done.complete(null);
+            }
+        }));
+    }
+
+    public boolean search(long timeoutMs) throws InterruptedException {
+        String query = queries.take();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        pending.put(query, done);
+        try {
+            session.send("/app/search.reports", Map.of("query", query, "filters", Map.of()));
+            done.get(timeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                throw (InterruptedException) e;
+            }
+            return false;
+        } finally {
+            pending.remove(query);
+            queries.add(query);
+        }
+    }
+
+    private static StompFrameHandler handler(Class<?> payloadType, Consumer<Object> consumer) {
+        return new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return payloadType;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                consumer.accept(payload);
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        session.disconnect();
+        stompClient.stop();
+    }
+}
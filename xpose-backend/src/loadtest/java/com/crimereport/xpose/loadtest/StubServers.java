@@ -0,0 +1,213 @@
+package com.crimereport.xpose.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class StubServers implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StubServers.class);
+
+    public static final String ML = "ml";
+    public static final String GEMINI = "gemini";
+    public static final String BLOCKCHAIN = "blockchain";
+    public static final String GOOGLE = "google";
+
+    private final Map<String, LatencyProfile> profiles;
+    private final Map<String, HttpServer> servers = new LinkedHashMap<>();
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong blockIndex = new AtomicLong();
+
+    @FunctionalInterface
+    private interface Route {
+        Object respond(Map<String, Object> body) throws IOException;
+    }
+
+    public StubServers(Map<String, LatencyProfile> profiles) throws IOException {
+        this.profiles = profiles;
+
+        Map<String, Route> ml = new LinkedHashMap<>();
+        ml.put("/classify", body -> classification(String.valueOf(body.getOrDefault("description", ""))));
+        ml.put("/classify/batch", this::batchClassification);
+        ml.put("/health", body -> Map.of("status", "healthy"));
+        start(ML, ml);
+
+        start(GEMINI, Map.of("/v1beta/models/", this::geminiResponse));
+
+        Map<String, Route> blockchain = new LinkedHashMap<>();
+        blockchain.put("/add", body -> Map.of("success", true, "index", blockIndex.incrementAndGet(),
+                "hash", Long.toHexString(ThreadLocalRandom.current().nextLong())));
+        blockchain.put("/chain", body -> chain());
+        start(BLOCKCHAIN, blockchain);
+
+        Map<String, Route> google = new LinkedHashMap<>();
+        google.put("/maps/api/geocode/json", body -> geocode());
+        google.put("/maps/api/place/nearbysearch/json", body -> nearbySearch());
+        start(GOOGLE, google);
+    }
+
+    public List<String> applicationArgs() {
+        List<String> args = new ArrayList<>();
+        args.add("--ml.api.host=127.0.0.1");
+        args.add("--ml.api.port=" + port(ML));
+        args.add("--blockchain.api.host=127.0.0.1");
+        args.add("--blockchain.api.port=" + port(BLOCKCHAIN));
+        args.add("--app.gemini.base-url=http://127.0.0.1:" + port(GEMINI) + "/v1beta");
+        args.add("--app.google.maps-base-url=http://127.0.0.1:" + port(GOOGLE) + "/maps/api");
+        return args;
+    }
+
+    public int port(String dependency) {
+        return servers.get(dependency).getAddress().getPort();
+    }
+
+    public Map<String, Map<String, Long>> callCounts() {
+        Map<String, Map<String, Long>> counts = new TreeMap<>();
+        calls.forEach((route, count) -> counts.put(route, Map.of(
+                "calls", count.sum(),
+                "failures", failures.getOrDefault(route, new LongAdder()).sum())));
+        return counts;
+    }
+
+    private void start(String dependency, Map<String, Route> routes) throws IOException {
+        LatencyProfile profile = profiles.get(dependency);
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 512);
+        routes.forEach((path, route) -> server.createContext(path, exchange -> handle(dependency, profile, route, exchange)));
+        server.setExecutor(executor);
+        server.start();
+        servers.put(dependency, server);
+        logger.info("Stub '{}' listening on port {} ({})", dependency, server.getAddress().getPort(), profile);
+    }
+
+    private void handle(String dependency, LatencyProfile profile, Route route, HttpExchange exchange) throws IOException {
+        String key = dependency + " " + exchange.getRequestMethod() + " " + exchange.getHttpContext().getPath();
+        calls.computeIfAbsent(key, k -> new LongAdder()).increment();
+        try (exchange) {
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            Thread.sleep(profile.sampleMillis());
+
+            if (profile.shouldFail()) {
+                failures.computeIfAbsent(key, k -> new LongAdder()).increment();
+                int status = GEMINI.equals(dependency) && ThreadLocalRandom.current().nextBoolean() ? 429 : 503;
+                exchange.sendResponseHeaders(status, -1);
+                return;
+            }
+
+            Map<String, Object> body = requestBody.length == 0 ? Map.of() : objectMapper.readValue(requestBody, Map.class);
+            byte[] response = objectMapper.writeValueAsBytes(route.respond(body));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.warn("Stub '{}' failed to answer {}: {}", dependency, key, e.getMessage());
+        }
+    }
+
+    private Map<String, Object> classification(String description) {
+        int words = description.isBlank() ? 0 : description.trim().split("\\s+").length;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("is_spam", false);
+        result.put("is_hate_speech", false);
+        result.put("is_toxic", false);
+        result.put("urgency", words > 40 ? "HIGH" : "MEDIUM");
+        result.put("confidence", 0.87);
+        result.put("spam_score", 0.04);
+        result.put("report_quality", words > 20 ? "HIGH" : "MEDIUM");
+        result.put("needs_review", false);
+        result.put("word_count", words);
+        result.put("char_count", description.length());
+        result.put("toxicity_analysis", Map.of("toxicity", 0.03, "hate_speech_score", 0.01, "severe_toxicity", 0.0));
+        result.put("shap_explanation", Map.of(
+                "base_value", 0.12,
+                "top_influential_words", List.of(
+                        Map.of("word", "drugs", "impact", 0.31, "influence", "positive"),
+                        Map.of("word", "selling", "impact", 0.22, "influence", "positive"))));
+        return result;
+    }
+
+    private Object batchClassification(Map<String, Object> body) {
+        List<Map<String, Object>> reports = (List<Map<String, Object>>) body.getOrDefault("reports", List.of());
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (Map<String, Object> report : reports) {
+            results.add(classification(String.valueOf(report.getOrDefault("description", ""))));
+        }
+        return Map.of("results", results);
+    }
+
+    private Object geminiResponse(Map<String, Object> body) throws IOException {
+        List<Map<String, Object>> contents = (List<Map<String, Object>>) body.getOrDefault("contents", List.of());
+        String prompt = contents.isEmpty() ? "" : String.valueOf(
+                ((List<Map<String, Object>>) contents.get(0).get("parts")).get(0).get("text"));
+        String text = prompt.substring(prompt.lastIndexOf("\n\n") + 1).trim();
+        Map<String, Object> generationConfig = (Map<String, Object>) body.getOrDefault("generationConfig", Map.of());
+
+        String answer;
+        if ("application/json".equals(generationConfig.get("responseMimeType"))) {
+            answer = objectMapper.writeValueAsString(Map.of(
+                    "language", "English",
+                    "is_english", true,
+                    "english_text", text,
+                    "readable_text", text));
+        } else if (prompt.startsWith("Is this text primarily in English")) {
+            answer = "YES";
+        } else {
+            answer = text;
+        }
+        return Map.of("candidates", List.of(Map.of(
+                "content", Map.of("role", "model", "parts", List.of(Map.of("text", answer))),
+                "finishReason", "STOP")));
+    }
+
+    private Object chain() {
+        List<Map<String, Object>> blocks = new ArrayList<>();
+        long last = blockIndex.get();
+        for (long i = Math.max(0, last - 50); i <= last; i++) {
+            blocks.add(Map.of("index", i, "hash", Long.toHexString(i * 31 + 7), "data", "{}"));
+        }
+        return blocks;
+    }
+
+    private Object geocode() {
+        return Map.of("status", "OK", "results", List.of(Map.of(
+                "formatted_address", "Fort, Mumbai, Maharashtra, India",
+                "geometry", Map.of("location", Map.of("lat", 18.9339, "lng", 72.8356)))));
+    }
+
+    private Object nearbySearch() {
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(Map.of(
+                    "name", "Stub Police Station " + i,
+                    "vicinity", "Mumbai",
+                    "geometry", Map.of("location", Map.of("lat", 18.93 + i * 0.01, "lng", 72.83 + i * 0.01))));
+        }
+        return Map.of("status", "OK", "results", results);
+    }
+
+    @Override
+    public void close() {
+        servers.values().forEach(server -> server.stop(0));
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,122 @@
+package com.crimereport.xpose.config;
+
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class OutboundHttpClientFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboundHttpClientFactory.class);
+
+    public static final String ML = "ml";
+    public static final String BLOCKCHAIN = "blockchain";
+    public static final String GEMINI = "gemini";
+    public static final String GOOGLE_MAPS = "google-maps";
+    public static final String NEWS = "news";
+    public static final String RECAPTCHA = "recaptcha";
+    public static final String FIREBASE = "firebase";
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private RestTemplateBuilder restTemplateBuilder;
+
+    @Autowired
+    private WebClient.Builder webClientBuilder;
+
+    private final Map<String, Destination> destinations = new ConcurrentHashMap<>();
+
+    public RestTemplate restTemplate(String destination) {
+        Destination target = destination(destination);
+        return restTemplateBuilder
+                .requestFactory(() -> {
+                    ReactorClientHttpRequestFactory factory = new ReactorClientHttpRequestFactory(target.httpClient);
+                    factory.setReadTimeout(target.readTimeout);
+                    return factory;
+                })
+                .build();
+    }
+
+    public WebClient.Builder webClientBuilder(String destination) {
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(destination(destination).httpClient));
+    }
+
+    private Destination destination(String name) {
+        return destinations.computeIfAbsent(name, this::createDestination);
+    }
+
+    private Destination createDestination(String name) {
+        int connectTimeoutMs = setting(name, "connect-timeout-ms", Integer.class, 2000);
+        Duration readTimeout = Duration.ofMillis(setting(name, "read-timeout-ms", Long.class, 10000L));
+        int maxConnections = setting(name, "max-connections", Integer.class, 50);
+        int pendingAcquireMax = setting(name, "pending-acquire-max", Integer.class, 200);
+        long pendingAcquireTimeoutMs = setting(name, "pending-acquire-timeout-ms", Long.class, 2000L);
+        long maxIdleSeconds = setting(name, "max-idle-seconds", Long.class, 30L);
+        boolean http2 = setting(name, "http2", Boolean.class, false);
+
+        ConnectionProvider provider = ConnectionProvider.builder("xpose-" + name)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(maxIdleSeconds))
+                .evictInBackground(Duration.ofSeconds(maxIdleSeconds))
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(readTimeout)
+                .keepAlive(true)
+                .compress(true)
+                .protocol(http2 ? new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11}
+                        : new HttpProtocol[]{HttpProtocol.HTTP11});
+
+        logger.info("Outbound HTTP client '{}': connect={}ms read={}ms maxConnections={} http2={}",
+                name, connectTimeoutMs, readTimeout.toMillis(), maxConnections, http2);
+        return new Destination(httpClient, provider, readTimeout);
+    }
+
+    private <T> T setting(String destination, String key, Class<T> type, T defaultValue) {
+        T value = environment.getProperty("app.http." + destination + "." + key, type);
+        if (value != null) {
+            return value;
+        }
+        return environment.getProperty("app.http.default." + key, type, defaultValue);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        destinations.values().forEach(destination -> destination.provider.disposeLater().block(Duration.ofSeconds(5)));
+    }
+
+    private static class Destination {
+        private final HttpClient httpClient;
+        private final ConnectionProvider provider;
+        private final Duration readTimeout;
+
+        private Destination(HttpClient httpClient, ConnectionProvider provider, Duration readTimeout) {
+            this.httpClient = httpClient;
+            this.provider = provider;
+            this.readTimeout = readTimeout;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.crimereport.xpose.config;
+
+import com.crimereport.xpose.storage.BlobStore;
+import com.crimereport.xpose.storage.LocalBlobStore;
+import com.crimereport.xpose.storage.S3BlobStore;
+import com.crimereport.xpose.storage.TieredBlobStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+public class StorageConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageConfig.class);
+
+    @Bean
+    public LocalBlobStore localBlobStore(@Value("${app.upload.dir}") String uploadDir,
+                                         @Value("${app.evidence.upload.dir}") String evidenceUploadDir) {
+        Map<String, Path> roots = Map.of(
+                BlobStore.EVIDENCE, Paths.get(evidenceUploadDir),
+                BlobStore.POLICE_PROOFS, Paths.get(uploadDir, "police-proofs"),
+                BlobStore.PROFILES, Paths.get(uploadDir, "profiles")
+        );
+        return new LocalBlobStore(roots);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.storage.s3.enabled", havingValue = "true")
+    public S3BlobStore s3BlobStore(@Value("${app.storage.s3.endpoint}") String endpoint,
+                                   @Value("${app.storage.s3.region:us-east-1}") String region,
+                                   @Value("${app.storage.s3.bucket}") String bucket,
+                                   @Value("${app.storage.s3.access-key}") String accessKey,
+                                   @Value("${app.storage.s3.secret-key}") String secretKey,
+                                   @Value("${app.storage.s3.prefix:}") String prefix,
+                                   @Value("${app.storage.s3.connect-timeout-ms:5000}") long connectTimeoutMs,
+                                   @Value("${app.storage.s3.request-timeout-ms:60000}") long requestTimeoutMs) {
+        return new S3BlobStore(URI.create(endpoint), region, bucket, accessKey, secretKey, prefix,
+                Duration.ofMillis(connectTimeoutMs), Duration.ofMillis(requestTimeoutMs));
+    }
+
+    @Bean
+    @Primary
+    public BlobStore blobStore(LocalBlobStore localBlobStore,
+                               ObjectProvider<S3BlobStore> s3BlobStore,
+                               @Value("${app.storage.backend:local}") String backend,
+                               @Value("${app.storage.tiering.enabled:false}") boolean tieringEnabled) {
+        S3BlobStore s3 = s3BlobStore.getIfAvailable();
+
+        if ("s3".equalsIgnoreCase(backend)) {
+            if (s3 == null) {
+                throw new IllegalStateException("app.storage.backend=s3 requires app.storage.s3.enabled=true");
+            }
+            logger.info("Using S3-compatible blob store");
+            return s3;
+        }
+
+        if (tieringEnabled) {
+            if (s3 == null) {
+                throw new IllegalStateException("app.storage.tiering.enabled=true requires app.storage.s3.enabled=true");
+            }
+            logger.info("Using local blob store with S3-compatible cold tier");
+            return new TieredBlobStore(localBlobStore, s3);
+        }
+
+        logger.info("Using local blob store");
+        return localBlobStore;
+    }
+}
@@ -1,15 +1,46 @@
 package com.crimereport.xpose.config;
 
+import com.crimereport.xpose.models.User;
+import com.crimereport.xpose.services.AuthService;
+import com.crimereport.xpose.util.FirebaseTokenVerifier;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+import java.security.Principal;
+
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketConfig.class);
+
+    public static final String AUTHORIZATION_HEADER = "Authorization";
+
+    // the app registers users by their national number, Firebase reports it in E.164
+    private static final String COUNTRY_CODE = "+91";
+
+    @Autowired
+    private FirebaseTokenVerifier firebaseTokenVerifier;
+
+    @Autowired
+    private AuthService authService;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic", "/queue");
@@ -26,4 +57,64 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*");
     }
-}
\ No newline at end of file
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+                if (accessor == null) {
+                    return message;
+                }
+                // connections without a token stay anonymous (search, report updates) and get no user queue
+                if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+                    String authorization = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+                    if (authorization != null && !authorization.isBlank()) {
+                        accessor.setUser(authenticate(authorization));
+                    }
+                } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+                    // per-user queues are only reachable through /user/..., which resolves against the session's principal
+                    String destination = accessor.getDestination();
+                    if (destination != null && destination.startsWith("/queue/")) {
+                        throw new MessageDeliveryException("Subscribe to /user" + destination + " instead");
+                    }
+                }
+                return message;
+            }
+        });
+    }
+
+    private Principal authenticate(String authorization) {
+        String token = authorization.startsWith("Bearer ") ? authorization.substring(7).trim() : authorization.trim();
+        Claims claims;
+        try {
+            claims = firebaseTokenVerifier.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.debug("Rejected WebSocket CONNECT: {}", e.getMessage());
+            throw new MessageDeliveryException("Invalid or expired token");
+        }
+
+        String phoneNumber = claims.get("phone_number", String.class);
+        if (phoneNumber == null) {
+            throw new MessageDeliveryException("Token has no phone number");
+        }
+        String mobile = phoneNumber.startsWith(COUNTRY_CODE) ? phoneNumber.substring(COUNTRY_CODE.length()) : phoneNumber;
+        User user = authService.findByMobile(mobile)
+                .orElseThrow(() -> new MessageDeliveryException("No account for this phone number"));
+        return new StompPrincipal(user.getId().toString());
+    }
+
+    private static class StompPrincipal implements Principal {
+        private final String name;
+
+        private StompPrincipal(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
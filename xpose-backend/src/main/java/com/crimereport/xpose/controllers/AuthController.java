@@ -2,20 +2,15 @@ package com.crimereport.xpose.controllers;
 
 import com.crimereport.xpose.models.User;
 import com.crimereport.xpose.services.AuthService;
+import com.crimereport.xpose.services.FileStorageService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.Map;
 
 @RestController
@@ -26,8 +21,8 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
-    @Value("${app.upload.dir}")
-    private String uploadDir;
+    @Autowired
+    private FileStorageService fileStorageService;
 
     @PostMapping("/register")
     public ResponseEntity<?> mobileAuth(@RequestBody Map<String, String> body) {
@@ -70,13 +65,8 @@ public class AuthController {
         String responseProfileUrl = null;
 
         if (imageFile != null && !imageFile.isEmpty()) {
-            String fileName = UUID.randomUUID() + "_" + imageFile.getOriginalFilename();
-            Path uploadPath = Paths.get(uploadDir, "profiles");
-
             try {
-                Files.createDirectories(uploadPath);
-                Path filePath = uploadPath.resolve(fileName);
-                Files.copy(imageFile.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+                String fileName = fileStorageService.storeProfileImage(imageFile);
                 String relativePathForDb = "/uploads/profiles/" + fileName;
                 user.setProfileUrl(relativePathForDb);
                 responseProfileUrl = authService.buildFullUrl(relativePathForDb);
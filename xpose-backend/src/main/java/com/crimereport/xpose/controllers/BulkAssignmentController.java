@@ -0,0 +1,89 @@
+package com.crimereport.xpose.controllers;
+
+import com.crimereport.xpose.models.AssignmentJob;
+import com.crimereport.xpose.services.BulkAssignmentService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/reports/auto-assign/bulk")
+@CrossOrigin(origins = "*")
+public class BulkAssignmentController {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkAssignmentController.class);
+
+    @Autowired
+    private BulkAssignmentService bulkAssignmentService;
+
+    @PostMapping
+    public ResponseEntity<?> startBulkAssignment(@RequestBody(required = false) BulkAssignRequest request) {
+        try {
+            AssignmentJob job = bulkAssignmentService.startJob(
+                    request != null ? request.getChunkSize() : null,
+                    request != null ? request.getMaxDistanceMeters() : null
+            );
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("success", false, "message", e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error starting bulk assignment: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    Map.of("success", false, "message", "Failed to start bulk assignment", "error", "INTERNAL_ERROR"));
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<?> getRecentJobs() {
+        return ResponseEntity.ok(bulkAssignmentService.getRecentJobs());
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getJob(@PathVariable Long jobId) {
+        Optional<AssignmentJob> job = bulkAssignmentService.getJob(jobId);
+        if (job.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("success", false, "message", "Assignment job not found"));
+        }
+        return ResponseEntity.ok(job.get());
+    }
+
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<?> resumeJob(@PathVariable Long jobId) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(bulkAssignmentService.resumeJob(jobId));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("success", false, "message", e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error resuming bulk assignment job {}: {}", jobId, e.getMessage(), e);
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/{jobId}/cancel")
+    public ResponseEntity<?> cancelJob(@PathVariable Long jobId) {
+        try {
+            bulkAssignmentService.cancelJob(jobId);
+            return ResponseEntity.ok(Map.of("success", true, "message", "Cancellation requested"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("success", false, "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+}
+
+class BulkAssignRequest {
+    private Integer chunkSize;
+    private Integer maxDistanceMeters;
+
+    public Integer getChunkSize() { return chunkSize; }
+    public void setChunkSize(Integer chunkSize) { this.chunkSize = chunkSize; }
+    public Integer getMaxDistanceMeters() { return maxDistanceMeters; }
+    public void setMaxDistanceMeters(Integer maxDistanceMeters) { this.maxDistanceMeters = maxDistanceMeters; }
+}
@@ -2,11 +2,14 @@ package com.crimereport.xpose.controllers;
 
 import com.crimereport.xpose.dto.CrimeReportRequest;
 import com.crimereport.xpose.services.CrimeReportService;
+import com.crimereport.xpose.services.EvidenceUploadService;
 import com.crimereport.xpose.services.FileStorageService;
+import com.crimereport.xpose.services.SubmissionIdempotencyService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,20 +25,110 @@ public class CrimeReportController {
 
     private static final Logger logger = LoggerFactory.getLogger(CrimeReportController.class);
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAY_HEADER = "Idempotent-Replayed";
+
     @Autowired
     private CrimeReportService crimeReportService;
 
     @Autowired
     private FileStorageService fileStorageService;
 
+    @Autowired
+    private EvidenceUploadService evidenceUploadService;
+
+    @Autowired
+    private SubmissionIdempotencyService submissionIdempotencyService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     @PostMapping(value = "/submit", consumes = {"multipart/form-data"})
     public ResponseEntity<?> submitCrimeReport(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @RequestPart("crimeReport") String crimeReportJson,
             @RequestPart(value = "evidenceFiles", required = false) List<MultipartFile> evidenceFiles) {
 
+        if (idempotencyKey == null) {
+            return processSubmission(crimeReportJson, evidenceFiles);
+        }
+        if (!SubmissionIdempotencyService.isValidKey(idempotencyKey)) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", IDEMPOTENCY_KEY_HEADER + " must be 1-" + SubmissionIdempotencyService.MAX_KEY_LENGTH + " printable ASCII characters",
+                    "error", "INVALID_IDEMPOTENCY_KEY"
+            ));
+        }
+
+        SubmissionIdempotencyService.Claim claim;
+        try {
+            claim = submissionIdempotencyService.acquire(idempotencyKey,
+                    SubmissionIdempotencyService.requestHash(crimeReportJson, evidenceFiles));
+        } catch (Exception e) {
+            logger.error("Idempotency lookup failed for key {}: {}", idempotencyKey, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of(
+                    "success", false,
+                    "message", "Could not process your report right now, please retry",
+                    "error", "IDEMPOTENCY_UNAVAILABLE"
+            ));
+        }
+
+        switch (claim.outcome()) {
+            case REPLAY:
+                logger.info("Replaying stored response for idempotency key {}", idempotencyKey);
+                try {
+                    return ResponseEntity.status(claim.status())
+                            .header(IDEMPOTENT_REPLAY_HEADER, "true")
+                            .body(objectMapper.readTree(claim.body()));
+                } catch (Exception e) {
+                    logger.error("Stored response for idempotency key {} is unreadable: {}", idempotencyKey, e.getMessage());
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of(
+                            "success", false,
+                            "message", "Internal server error occurred while processing your report",
+                            "error", "INTERNAL_ERROR"
+                    ));
+                }
+            case MISMATCH:
+                return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(Map.of(
+                        "success", false,
+                        "message", "This " + IDEMPOTENCY_KEY_HEADER + " was already used for a different report",
+                        "error", "IDEMPOTENCY_KEY_REUSED"
+                ));
+            case IN_PROGRESS:
+                return ResponseEntity.status(HttpStatus.CONFLICT).header(HttpHeaders.RETRY_AFTER, "5").body(Map.of(
+                        "success", false,
+                        "message", "This report is still being processed, please retry shortly",
+                        "error", "SUBMISSION_IN_PROGRESS"
+                ));
+            default:
+                break;
+        }
+
+        ResponseEntity<?> response = processSubmission(crimeReportJson, evidenceFiles);
+        try {
+            // failures are not stored so the client's retry gets a fresh attempt
+            if (isRetryable(response)) {
+                submissionIdempotencyService.release(claim);
+            } else {
+                submissionIdempotencyService.complete(claim, response.getStatusCode().value(),
+                        objectMapper.writeValueAsString(response.getBody()));
+            }
+        } catch (Exception e) {
+            logger.error("Failed to store response for idempotency key {}: {}", idempotencyKey, e.getMessage(), e);
+        }
+        return response;
+    }
+
+    // pipeline failures come back as 200 with status=ERROR / requiresRetry; rejections are final and are kept
+    private static boolean isRetryable(ResponseEntity<?> response) {
+        if (response.getStatusCode().is5xxServerError()) {
+            return true;
+        }
+        return response.getBody() instanceof Map<?, ?> body
+                && ("ERROR".equals(body.get("status")) || Boolean.TRUE.equals(body.get("requiresRetry")));
+    }
+
+    private ResponseEntity<?> processSubmission(String crimeReportJson, List<MultipartFile> evidenceFiles) {
         try {
             logger.info("Received crime report submission request with {} evidence files",
                     evidenceFiles != null ? evidenceFiles.size() : 0);
@@ -49,6 +142,10 @@ public class CrimeReportController {
                 request.setEvidenceFiles(evidenceFiles);
             }
 
+            if (request.getUploadIds() != null && !request.getUploadIds().isEmpty()) {
+                request.setUploadedEvidenceFiles(evidenceUploadService.resolveUploads(request.getUploadIds()));
+            }
+
             if (!crimeReportService.validateCrimeReport(request)) {
                 logger.warn("Crime report validation failed");
                 return ResponseEntity.badRequest().body(
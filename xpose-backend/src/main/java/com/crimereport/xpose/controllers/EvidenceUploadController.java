@@ -0,0 +1,133 @@
+package com.crimereport.xpose.controllers;
+
+import com.crimereport.xpose.models.EvidenceUpload;
+import com.crimereport.xpose.services.EvidenceUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/crime-reports/uploads")
+@CrossOrigin(origins = "*")
+public class EvidenceUploadController {
+
+    private static final Logger logger = LoggerFactory.getLogger(EvidenceUploadController.class);
+
+    @Autowired
+    private EvidenceUploadService evidenceUploadService;
+
+    @PostMapping
+    public ResponseEntity<?> initiateUpload(@RequestBody InitiateUploadRequest request) {
+        try {
+            EvidenceUpload upload = evidenceUploadService.initiateUpload(
+                    request.getFileName(), request.getTotalSize(), request.getSha256());
+            return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(upload));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", e.getMessage()));
+        } catch (IOException e) {
+            logger.error("Failed to initiate evidence upload: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("success", false, "message", "Could not initiate upload"));
+        }
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<?> getUpload(@PathVariable String uploadId) {
+        Optional<EvidenceUpload> upload = evidenceUploadService.getUpload(uploadId);
+        if (upload.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("success", false, "message", "Upload not found"));
+        }
+        return ResponseEntity.ok(toResponse(upload.get()));
+    }
+
+    @PutMapping(value = "/{uploadId}", consumes = "application/octet-stream")
+    public ResponseEntity<?> appendChunk(@PathVariable String uploadId,
+                                         @RequestHeader("Upload-Offset") long offset,
+                                         @RequestHeader(value = "Upload-Checksum", required = false) String checksum,
+                                         HttpServletRequest request) {
+        if (evidenceUploadService.getUpload(uploadId).isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("success", false, "message", "Upload not found"));
+        }
+
+        try {
+            EvidenceUpload upload = evidenceUploadService.appendChunk(uploadId, offset, checksum, request.getInputStream());
+            return ResponseEntity.ok(toResponse(upload));
+        } catch (IllegalStateException e) {
+            Map<String, Object> body = toResponse(evidenceUploadService.getUpload(uploadId).orElseThrow());
+            body.put("success", false);
+            body.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", e.getMessage()));
+        } catch (IOException e) {
+            logger.warn("Chunk upload for {} interrupted: {}", uploadId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("success", false, "message", "Chunk could not be stored, resume from the last offset"));
+        }
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<?> completeUpload(@PathVariable String uploadId,
+                                            @RequestBody(required = false) CompleteUploadRequest request) {
+        if (evidenceUploadService.getUpload(uploadId).isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("success", false, "message", "Upload not found"));
+        }
+
+        try {
+            EvidenceUpload upload = evidenceUploadService.completeUpload(
+                    uploadId, request != null ? request.getSha256() : null);
+            return ResponseEntity.ok(toResponse(upload));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("success", false, "message", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", e.getMessage()));
+        } catch (IOException e) {
+            logger.error("Failed to complete evidence upload {}: {}", uploadId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("success", false, "message", "Could not complete upload"));
+        }
+    }
+
+    private Map<String, Object> toResponse(EvidenceUpload upload) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("uploadId", upload.getId());
+        response.put("status", upload.getStatus().name());
+        response.put("fileName", upload.getOriginalFileName());
+        response.put("totalSize", upload.getTotalSize());
+        response.put("receivedBytes", upload.getReceivedBytes());
+        return response;
+    }
+}
+
+class InitiateUploadRequest {
+    private String fileName;
+    private long totalSize;
+    private String sha256;
+
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+    public long getTotalSize() { return totalSize; }
+    public void setTotalSize(long totalSize) { this.totalSize = totalSize; }
+    public String getSha256() { return sha256; }
+    public void setSha256(String sha256) { this.sha256 = sha256; }
+}
+
+class CompleteUploadRequest {
+    private String sha256;
+
+    public String getSha256() { return sha256; }
+    public void setSha256(String sha256) { this.sha256 = sha256; }
+}
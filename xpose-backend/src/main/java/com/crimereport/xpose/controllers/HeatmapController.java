@@ -0,0 +1,75 @@
+package com.crimereport.xpose.controllers;
+
+import com.crimereport.xpose.services.HeatmapService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/reports/heatmap")
+@CrossOrigin(origins = "*")
+public class HeatmapController {
+
+    private static final Logger logger = LoggerFactory.getLogger(HeatmapController.class);
+
+    @Autowired
+    private HeatmapService heatmapService;
+
+    @Value("${app.heatmap.default-range-days:30}")
+    private int defaultRangeDays;
+
+    @Value("${app.heatmap.etag-ttl-seconds:60}")
+    private long maxAgeSeconds;
+
+    @GetMapping("/{z}/{x}/{y}")
+    public ResponseEntity<?> getTile(
+            @PathVariable int z,
+            @PathVariable int x,
+            @PathVariable int y,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<Long> categoryId,
+            WebRequest request) {
+        try {
+            HeatmapService.validate(z, x, y);
+            LocalDate end = to != null ? to : LocalDate.now();
+            LocalDate start = from != null ? from : end.minusDays(defaultRangeDays - 1);
+            if (start.isAfter(end)) {
+                return ResponseEntity.badRequest().body(Map.of("message", "'from' must not be after 'to'"));
+            }
+
+            String etag = heatmapService.etag(z, x, y, start, end, categoryId);
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePrivate())
+                    .body(heatmapService.tile(z, x, y, start, end, categoryId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<?> rebuild() {
+        try {
+            int rows = heatmapService.rebuild();
+            return ResponseEntity.ok(Map.of("success", true, "rows", rows));
+        } catch (Exception e) {
+            logger.error("Failed to rebuild heatmap: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(Map.of("success", false, "message", "Failed to rebuild heatmap"));
+        }
+    }
+}
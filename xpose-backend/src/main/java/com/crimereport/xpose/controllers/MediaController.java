@@ -0,0 +1,72 @@
+package com.crimereport.xpose.controllers;
+
+import com.crimereport.xpose.services.FileServingService;
+import com.crimereport.xpose.services.MediaDerivativeService;
+import com.crimereport.xpose.services.MediaDerivativeService.DerivativeSize;
+import com.crimereport.xpose.storage.BlobStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/media")
+@CrossOrigin(origins = "*")
+public class MediaController {
+
+    @Autowired
+    private FileServingService fileServingService;
+
+    @Autowired
+    private MediaDerivativeService mediaDerivativeService;
+
+    @GetMapping("/{type}/{fileName}")
+    public void getMedia(@PathVariable String type,
+                         @PathVariable String fileName,
+                         @RequestParam(defaultValue = "thumb") String size,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        String namespace;
+        switch (type.toLowerCase()) {
+            case "evidence":
+                namespace = BlobStore.EVIDENCE;
+                break;
+            case "police-proof":
+                namespace = BlobStore.POLICE_PROOFS;
+                break;
+            case "profile":
+                namespace = BlobStore.PROFILES;
+                break;
+            default:
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                return;
+        }
+
+        if ("original".equalsIgnoreCase(size)) {
+            fileServingService.serve(namespace, fileName, request, response);
+            return;
+        }
+
+        DerivativeSize derivativeSize;
+        try {
+            derivativeSize = DerivativeSize.fromParam(size);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+
+        if (!mediaDerivativeService.isSupported(fileName)) {
+            if ("image".equals(fileServingService.getContentType(fileName).getType())) {
+                fileServingService.serve(namespace, fileName, request, response);
+            } else {
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            }
+            return;
+        }
+
+        String derivativeKey = mediaDerivativeService.getDerivativeKey(namespace, fileName, derivativeSize);
+        fileServingService.serve(namespace, derivativeKey != null ? derivativeKey : fileName, request, response);
+    }
+}
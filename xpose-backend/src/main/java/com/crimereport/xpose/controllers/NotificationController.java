@@ -3,12 +3,14 @@ package com.crimereport.xpose.controllers;
 import com.crimereport.xpose.models.Notification;
 import com.crimereport.xpose.models.User;
 import com.crimereport.xpose.services.AuthService;
+import com.crimereport.xpose.services.NotificationPushService;
 import com.crimereport.xpose.services.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -19,6 +21,9 @@ public class NotificationController {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private NotificationPushService notificationPushService;
+
     @Autowired
     private AuthService authService;
 
@@ -42,12 +47,37 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    @GetMapping("/user/{userId}/inbox")
+    public ResponseEntity<?> getInbox(@PathVariable Long userId,
+                                      @RequestParam(required = false) String cursor,
+                                      @RequestParam(defaultValue = "20") int limit,
+                                      @RequestParam(defaultValue = "false") boolean unreadOnly) {
+        try {
+            return ResponseEntity.ok(notificationService.getInbox(userId, cursor, limit, unreadOnly));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/user/{userId}/unread-count")
+    public ResponseEntity<?> getUnreadCount(@PathVariable Long userId) {
+        return ResponseEntity.ok(Map.of("userId", userId, "unreadCount", notificationService.getUnreadCount(userId)));
+    }
+
+    @PutMapping("/user/{userId}/read-all")
+    public ResponseEntity<?> markAllNotificationsAsRead(@PathVariable Long userId) {
+        int updated = notificationService.markAllNotificationsAsRead(userId);
+        notificationPushService.pushUnreadCount(userId);
+        return ResponseEntity.ok(Map.of("userId", userId, "markedRead", updated, "unreadCount", 0));
+    }
+
     @PutMapping("/{notificationId}/read")
     public ResponseEntity<?> markNotificationAsRead(@PathVariable Long notificationId) {
         Notification updatedNotification = notificationService.markNotificationAsRead(notificationId);
         if (updatedNotification == null) {
             return ResponseEntity.status(404).body("Notification not found");
         }
+        notificationPushService.pushUnreadCount(updatedNotification.getRecipient().getId());
         return ResponseEntity.ok(updatedNotification);
     }
 }
\ No newline at end of file
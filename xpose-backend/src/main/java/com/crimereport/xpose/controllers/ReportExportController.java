@@ -0,0 +1,100 @@
+package com.crimereport.xpose.controllers;
+
+import com.crimereport.xpose.models.CrimeReport;
+import com.crimereport.xpose.services.ReportExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/reports/export")
+@CrossOrigin(origins = "*")
+public class ReportExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportExportController.class);
+
+    private static final String XLSX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    @Autowired
+    private ReportExportService reportExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @GetMapping
+    public void export(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long stationId,
+            @RequestParam(required = false) Long officerId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String adminStatus,
+            @RequestParam(required = false) String policeStatus,
+            @RequestParam(required = false) String urgency,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long crimeTypeId,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            HttpServletResponse response) throws IOException {
+        ReportExportService.Format exportFormat;
+        ReportExportService.Filter filter;
+        try {
+            exportFormat = enumValue(ReportExportService.Format.class, format);
+            if (from != null && to != null && from.isAfter(to)) {
+                throw new IllegalArgumentException("'from' must not be after 'to'");
+            }
+            filter = new ReportExportService.Filter(from, to, stationId, officerId,
+                    enumName(CrimeReport.ReportStatus.class, status),
+                    enumName(CrimeReport.AdminStatus.class, adminStatus),
+                    enumName(CrimeReport.PoliceStatus.class, policeStatus),
+                    enumName(CrimeReport.UrgencyLevel.class, urgency),
+                    categoryId, crimeTypeId, includeArchived);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Map.of("message", e.getMessage()));
+            return;
+        }
+
+        String fileName = "reports-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+                + "." + exportFormat.name().toLowerCase();
+        response.setContentType(exportFormat == ReportExportService.Format.XLSX ? XLSX_CONTENT_TYPE : "text/csv;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+
+        try {
+            reportExportService.export(filter, exportFormat, response.getOutputStream());
+        } catch (IOException e) {
+            // usually the client went away mid-download; the response is already committed
+            logger.warn("Report export aborted: {}", e.getMessage());
+        }
+    }
+
+    private static <E extends Enum<E>> String enumName(Class<E> type, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return enumValue(type, value).name();
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName() + ": " + value);
+        }
+    }
+}
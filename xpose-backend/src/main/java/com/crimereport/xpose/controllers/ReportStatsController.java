@@ -0,0 +1,103 @@
+package com.crimereport.xpose.controllers;
+
+import com.crimereport.xpose.services.ReportStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/reports/stats")
+@CrossOrigin(origins = "*")
+public class ReportStatsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportStatsController.class);
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int MAX_HOURLY_RANGE_DAYS = 31;
+
+    @Autowired
+    private ReportStatsService reportStatsService;
+
+    @GetMapping
+    public ResponseEntity<?> getCounts(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().body(Map.of("message", "'from' must not be after 'to'"));
+        }
+        return ResponseEntity.ok(reportStatsService.counts(start, end));
+    }
+
+    @GetMapping("/trend")
+    public ResponseEntity<?> getTrend(
+            @RequestParam(defaultValue = "total") String dimension,
+            @RequestParam(defaultValue = "all") String value,
+            @RequestParam(defaultValue = "DAY") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            ReportStatsService.Granularity bucket = ReportStatsService.Granularity.valueOf(granularity.toUpperCase());
+            LocalDate end = to != null ? to : LocalDate.now();
+            LocalDate start = from != null ? from : end.minusDays(bucket == ReportStatsService.Granularity.HOUR ? 0 : DEFAULT_RANGE_DAYS - 1);
+            if (start.isAfter(end)) {
+                return ResponseEntity.badRequest().body(Map.of("message", "'from' must not be after 'to'"));
+            }
+            if (bucket == ReportStatsService.Granularity.HOUR && ChronoUnit.DAYS.between(start, end) >= MAX_HOURLY_RANGE_DAYS) {
+                return ResponseEntity.badRequest().body(Map.of("message", "Hourly trends are limited to " + MAX_HOURLY_RANGE_DAYS + " days"));
+            }
+            return ResponseEntity.ok(Map.of(
+                    "dimension", dimension,
+                    "value", value,
+                    "granularity", bucket.name(),
+                    "from", start.toString(),
+                    "to", end.toString(),
+                    "points", reportStatsService.trend(dimension, value, bucket, start, end)
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/breakdown/{dimension}")
+    public ResponseEntity<?> getBreakdown(
+            @PathVariable String dimension,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            LocalDate end = to != null ? to : LocalDate.now();
+            LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+            if (start.isAfter(end)) {
+                return ResponseEntity.badRequest().body(Map.of("message", "'from' must not be after 'to'"));
+            }
+            return ResponseEntity.ok(Map.of(
+                    "dimension", dimension,
+                    "from", start.toString(),
+                    "to", end.toString(),
+                    "values", reportStatsService.breakdown(dimension, start, end, Math.max(1, Math.min(limit, 500)))
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<?> rebuild() {
+        try {
+            int rows = reportStatsService.rebuild();
+            return ResponseEntity.ok(Map.of("success", true, "rows", rows));
+        } catch (Exception e) {
+            logger.error("Failed to rebuild report statistics: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(Map.of("success", false, "message", "Failed to rebuild statistics"));
+        }
+    }
+}
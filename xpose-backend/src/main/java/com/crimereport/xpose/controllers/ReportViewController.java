@@ -9,31 +9,28 @@ import com.crimereport.xpose.models.PoliceStation;
 import com.crimereport.xpose.repository.CrimeReportRepository;
 import com.crimereport.xpose.repository.PoliceStationRepository;
 import com.crimereport.xpose.services.CrimeReportService;
+import com.crimereport.xpose.services.FileServingService;
+import com.crimereport.xpose.services.FileStorageService;
+import com.crimereport.xpose.storage.BlobStore;
 import com.crimereport.xpose.services.ReportViewService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.*;
 
 @RestController
@@ -58,11 +55,11 @@ public class ReportViewController {
     @Autowired
     private ObjectMapper objectMapper;
 
-    @Value("${app.upload.dir}")
-    private String uploadDir;
+    @Autowired
+    private FileServingService fileServingService;
 
-    @Value("${app.evidence.upload.dir}")
-    private String evidenceUploadDir;
+    @Autowired
+    private FileStorageService fileStorageService;
 
     @Autowired
     private SimpMessagingTemplate messagingTemplate;
@@ -297,13 +294,7 @@ public class ReportViewController {
     public ResponseEntity<?> uploadPoliceProof(@RequestParam("file") MultipartFile file,
                                                @RequestParam("reportId") String reportId) {
         try {
-            Path uploadPath = Paths.get(uploadDir, "police-proofs");
-            Files.createDirectories(uploadPath);
-
-            String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-            Path filePath = uploadPath.resolve(fileName);
-
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            String fileName = fileStorageService.storePoliceProof(file);
 
             String relativePath = "/uploads/police-proofs/" + fileName;
 
@@ -345,127 +336,45 @@ public class ReportViewController {
     }
 
     @GetMapping("/evidence/{fileName}")
-    public ResponseEntity<Resource> downloadEvidenceFile(@PathVariable String fileName) {
-        try {
-            Path filePath = Paths.get(evidenceUploadDir).resolve(fileName).normalize();
-            logger.info("Attempting to download evidence file: {}", filePath.toString());
-
-            if (!Files.exists(filePath)) {
-                logger.warn("Evidence file not found: {}", fileName);
-                return ResponseEntity.notFound().build();
-            }
-
-            Resource resource = new UrlResource(filePath.toUri());
-
-            if (!resource.exists()) {
-                return ResponseEntity.notFound().build();
-            }
-
-
-            String contentType = Files.probeContentType(filePath);
-            if (contentType == null) {
-                contentType = "application/octet-stream";
-            }
-
-
-            String originalFileName = fileName;
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION,
-                            "inline; filename=\"" + originalFileName + "\"")
-                    .body(resource);
-
-        } catch (IOException e) {
-            logger.error("Error downloading evidence file: {}", fileName, e);
-            return ResponseEntity.internalServerError().build();
-        }
+    public void downloadEvidenceFile(@PathVariable String fileName,
+                                     HttpServletRequest request,
+                                     HttpServletResponse response) throws IOException {
+        logger.debug("Serving evidence file: {}", fileName);
+        fileServingService.serve(BlobStore.EVIDENCE, fileName, request, response);
     }
 
     @GetMapping("/police-proofs/{fileName}")
-    public ResponseEntity<Resource> downloadPoliceProofFile(@PathVariable String fileName) {
-        try {
-            Path filePath = Paths.get(uploadDir, "police-proofs").resolve(fileName).normalize();
-            logger.info("Attempting to download police proof file: {}", filePath.toString());
-
-            if (!Files.exists(filePath)) {
-                logger.warn("Police proof file not found: {}", fileName);
-                return ResponseEntity.notFound().build();
-            }
-
-            Resource resource = new UrlResource(filePath.toUri());
-
-            if (!resource.exists()) {
-                return ResponseEntity.notFound().build();
-            }
-
-
-            String contentType = Files.probeContentType(filePath);
-            if (contentType == null) {
-                contentType = "application/octet-stream";
-            }
-
-
-            String originalFileName = fileName;
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION,
-                            "inline; filename=\"" + originalFileName + "\"")
-                    .body(resource);
-
-        } catch (IOException e) {
-            logger.error("Error downloading police proof file: {}", fileName, e);
-            return ResponseEntity.internalServerError().build();
-        }
+    public void downloadPoliceProofFile(@PathVariable String fileName,
+                                        HttpServletRequest request,
+                                        HttpServletResponse response) throws IOException {
+        logger.debug("Serving police proof file: {}", fileName);
+        fileServingService.serve(BlobStore.POLICE_PROOFS, fileName, request, response);
     }
 
     @GetMapping("/download")
-    public ResponseEntity<Resource> downloadFile(@RequestParam String type, @RequestParam String filename) {
-        try {
-            Path filePath;
-
-            switch (type.toLowerCase()) {
-                case "evidence":
-                    filePath = Paths.get(evidenceUploadDir).resolve(filename).normalize();
-                    break;
-                case "police-proof":
-                    filePath = Paths.get(uploadDir, "police-proofs").resolve(filename).normalize();
-                    break;
-                case "profile":
-                    filePath = Paths.get(uploadDir, "profiles").resolve(filename).normalize();
-                    break;
-                default:
-                    return ResponseEntity.badRequest().build();
-            }
-
-            logger.info("Downloading file: {}", filePath.toString());
-
-            if (!Files.exists(filePath)) {
-                return ResponseEntity.notFound().build();
-            }
-
-            Resource resource = new UrlResource(filePath.toUri());
-
-            if (!resource.exists()) {
-                return ResponseEntity.notFound().build();
-            }
-
-            String contentType = Files.probeContentType(filePath);
-            if (contentType == null) {
-                contentType = "application/octet-stream";
-            }
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION,
-                            "inline; filename=\"" + filename + "\"")
-                    .body(resource);
-
-        } catch (IOException e) {
-            logger.error("Error downloading file: {}", filename, e);
-            return ResponseEntity.internalServerError().build();
+    public void downloadFile(@RequestParam String type,
+                             @RequestParam String filename,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        String namespace;
+
+        switch (type.toLowerCase()) {
+            case "evidence":
+                namespace = BlobStore.EVIDENCE;
+                break;
+            case "police-proof":
+                namespace = BlobStore.POLICE_PROOFS;
+                break;
+            case "profile":
+                namespace = BlobStore.PROFILES;
+                break;
+            default:
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                return;
         }
+
+        logger.debug("Serving file: {}/{}", namespace, filename);
+        fileServingService.serve(namespace, filename, request, response);
     }
 }
 
@@ -0,0 +1,33 @@
+package com.crimereport.xpose.controllers;
+
+import com.crimereport.xpose.services.FileServingService;
+import com.crimereport.xpose.storage.BlobStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/uploads")
+@CrossOrigin(origins = "*")
+public class UploadsController {
+
+    @Autowired
+    private FileServingService fileServingService;
+
+    @GetMapping("/profiles/{fileName}")
+    public void getProfileImage(@PathVariable String fileName,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+        fileServingService.serve(BlobStore.PROFILES, fileName, request, response);
+    }
+
+    @GetMapping("/police-proofs/{fileName}")
+    public void getPoliceProof(@PathVariable String fileName,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+        fileServingService.serve(BlobStore.POLICE_PROOFS, fileName, request, response);
+    }
+}
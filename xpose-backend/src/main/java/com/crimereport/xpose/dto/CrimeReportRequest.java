@@ -1,5 +1,6 @@
 package com.crimereport.xpose.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -17,6 +18,9 @@ public class CrimeReportRequest {
     private String policeStation;
     private List<String> files;
     private List<MultipartFile> evidenceFiles;
+    private List<String> uploadIds;
+    @JsonIgnore
+    private List<String> uploadedEvidenceFiles;
     private Double latitude;
     private Double longitude;
 
@@ -128,6 +132,22 @@ public class CrimeReportRequest {
         this.evidenceFiles = evidenceFiles;
     }
 
+    public List<String> getUploadIds() {
+        return uploadIds;
+    }
+
+    public void setUploadIds(List<String> uploadIds) {
+        this.uploadIds = uploadIds;
+    }
+
+    public List<String> getUploadedEvidenceFiles() {
+        return uploadedEvidenceFiles;
+    }
+
+    public void setUploadedEvidenceFiles(List<String> uploadedEvidenceFiles) {
+        this.uploadedEvidenceFiles = uploadedEvidenceFiles;
+    }
+
     public Double getLatitude() {
         return latitude;
     }
@@ -156,6 +176,7 @@ public class CrimeReportRequest {
                 ", district='" + district + '\'' +
                 ", policeStation='" + policeStation + '\'' +
                 ", files=" + files +
+                ", uploadIds=" + uploadIds +
                 '}';
     }
 }
\ No newline at end of file
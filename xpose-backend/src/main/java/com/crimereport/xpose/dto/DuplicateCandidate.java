@@ -0,0 +1,39 @@
+package com.crimereport.xpose.dto;
+
+import java.time.LocalDateTime;
+
+public class DuplicateCandidate {
+    private final String reportId;
+    private final String state;
+    private final String district;
+    private final String translatedDescription;
+    private final LocalDateTime submittedAt;
+
+    public DuplicateCandidate(String reportId, String state, String district, String translatedDescription, LocalDateTime submittedAt) {
+        this.reportId = reportId;
+        this.state = state;
+        this.district = district;
+        this.translatedDescription = translatedDescription;
+        this.submittedAt = submittedAt;
+    }
+
+    public String getReportId() {
+        return reportId;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public String getDistrict() {
+        return district;
+    }
+
+    public String getTranslatedDescription() {
+        return translatedDescription;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+}
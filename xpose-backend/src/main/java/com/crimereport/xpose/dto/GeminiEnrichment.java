@@ -0,0 +1,61 @@
+package com.crimereport.xpose.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GeminiEnrichment {
+
+    private String language;
+
+    @JsonProperty("is_english")
+    private boolean english;
+
+    @JsonProperty("english_text")
+    private String englishText;
+
+    @JsonProperty("readable_text")
+    private String readableText;
+
+    public GeminiEnrichment() {
+    }
+
+    public GeminiEnrichment(String language, boolean english, String englishText, String readableText) {
+        this.language = language;
+        this.english = english;
+        this.englishText = englishText;
+        this.readableText = readableText;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
+    public boolean isEnglish() {
+        return english;
+    }
+
+    public void setEnglish(boolean english) {
+        this.english = english;
+    }
+
+    public String getEnglishText() {
+        return englishText;
+    }
+
+    public void setEnglishText(String englishText) {
+        this.englishText = englishText;
+    }
+
+    public String getReadableText() {
+        return readableText;
+    }
+
+    public void setReadableText(String readableText) {
+        this.readableText = readableText;
+    }
+}
@@ -0,0 +1,40 @@
+package com.crimereport.xpose.dto;
+
+import com.crimereport.xpose.models.Notification.NotificationType;
+
+import java.time.LocalDateTime;
+
+public class NotificationItem {
+    private Long id;
+    private String type;
+    private String title;
+    private String message;
+    private LocalDateTime createdAt;
+    private boolean read;
+
+    public NotificationItem() {
+    }
+
+    public NotificationItem(Long id, NotificationType type, String title, String message,
+                            LocalDateTime createdAt, boolean read) {
+        this.id = id;
+        this.type = type != null ? type.name() : null;
+        this.title = title;
+        this.message = message;
+        this.createdAt = createdAt;
+        this.read = read;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public boolean isRead() { return read; }
+    public void setRead(boolean read) { this.read = read; }
+}
@@ -2,18 +2,18 @@ package com.crimereport.xpose.listeners;
 
 import com.crimereport.xpose.events.NotificationEvent;
 import com.crimereport.xpose.models.Notification;
-import com.crimereport.xpose.services.NotificationService;
+import com.crimereport.xpose.services.NotificationBatchWriter;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 public class NotificationEventListener {
 
     @Autowired
-    private NotificationService notificationService;
+    private NotificationBatchWriter notificationBatchWriter;
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleNotificationEvent(NotificationEvent event) {
         Notification notification = new Notification(
                 event.getRecipient(),
@@ -21,6 +21,6 @@ public class NotificationEventListener {
                 event.getTitle(),
                 event.getMessage()
         );
-        notificationService.saveNotification(notification);
+        notificationBatchWriter.enqueue(notification);
     }
-}
\ No newline at end of file
+}
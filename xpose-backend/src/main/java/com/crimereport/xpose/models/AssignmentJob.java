@@ -0,0 +1,161 @@
+package com.crimereport.xpose.models;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "assignment_jobs")
+public class AssignmentJob {
+
+    public enum JobStatus {
+        RUNNING, COMPLETED, FAILED, CANCELLED, INTERRUPTED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobStatus status;
+
+    @Column(name = "chunk_size", nullable = false)
+    private int chunkSize;
+
+    @Column(name = "max_distance_meters", nullable = false)
+    private int maxDistanceMeters;
+
+    @Column(name = "last_report_id", length = 32)
+    private String lastReportId;
+
+    @Column(name = "total_candidates")
+    private long totalCandidates;
+
+    private long processed;
+
+    private long assigned;
+
+    private long skipped;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public AssignmentJob() {
+        this.status = JobStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = this.startedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(JobStatus status) {
+        this.status = status;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getMaxDistanceMeters() {
+        return maxDistanceMeters;
+    }
+
+    public void setMaxDistanceMeters(int maxDistanceMeters) {
+        this.maxDistanceMeters = maxDistanceMeters;
+    }
+
+    public String getLastReportId() {
+        return lastReportId;
+    }
+
+    public void setLastReportId(String lastReportId) {
+        this.lastReportId = lastReportId;
+    }
+
+    public long getTotalCandidates() {
+        return totalCandidates;
+    }
+
+    public void setTotalCandidates(long totalCandidates) {
+        this.totalCandidates = totalCandidates;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(long processed) {
+        this.processed = processed;
+    }
+
+    public long getAssigned() {
+        return assigned;
+    }
+
+    public void setAssigned(long assigned) {
+        this.assigned = assigned;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(long skipped) {
+        this.skipped = skipped;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
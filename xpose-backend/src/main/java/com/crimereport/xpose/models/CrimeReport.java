@@ -19,13 +19,6 @@ public class CrimeReport {
     @Column(name = "crime_type_id")
     private Long crimeTypeId;
 
-    @Column(name = "original_description", columnDefinition = "TEXT", nullable = false)
-    private String originalDescription;
-
-    @Type(JsonType.class)
-    @Column(columnDefinition = "jsonb")
-    private String attachments;
-
     @Column
     private Double latitude;
 
@@ -130,6 +123,17 @@ public class CrimeReport {
 
     public void setId(String id) {
         this.id = id;
+        if (payload != null) {
+            payload.setReportId(id);
+        }
+    }
+
+    private CrimeReportPayload payload() {
+        if (payload == null) {
+            payload = new CrimeReportPayload();
+            payload.setReportId(id);
+        }
+        return payload;
     }
 
     public Long getCrimeCategoryId() {
@@ -149,19 +153,19 @@ public class CrimeReport {
     }
 
     public String getOriginalDescription() {
-        return originalDescription;
+        return payload != null ? payload.getOriginalDescription() : null;
     }
 
     public void setOriginalDescription(String originalDescription) {
-        this.originalDescription = originalDescription;
+        payload().setOriginalDescription(originalDescription);
     }
 
     public String getAttachments() {
-        return attachments;
+        return payload != null ? payload.getAttachments() : null;
     }
 
     public void setAttachments(String attachments) {
-        this.attachments = attachments;
+        payload().setAttachments(attachments);
     }
 
     public Double getLatitude() {
@@ -285,35 +289,35 @@ public class CrimeReport {
     }
 
     public String getToxicityScores() {
-        return toxicityScores;
+        return payload != null ? payload.getToxicityScores() : null;
     }
 
     public void setToxicityScores(String toxicityScores) {
-        this.toxicityScores = toxicityScores;
+        payload().setToxicityScores(toxicityScores);
     }
 
     public String getShapExplanation() {
-        return shapExplanation;
+        return payload != null ? payload.getShapExplanation() : null;
     }
 
     public void setShapExplanation(String shapExplanation) {
-        this.shapExplanation = shapExplanation;
+        payload().setShapExplanation(shapExplanation);
     }
 
     public String getTranslatedDescription() {
-        return translatedDescription;
+        return payload != null ? payload.getTranslatedDescription() : null;
     }
 
     public void setTranslatedDescription(String translatedDescription) {
-        this.translatedDescription = translatedDescription;
+        payload().setTranslatedDescription(translatedDescription);
     }
 
     public String getReadabilityEnhancedDescription() {
-        return readabilityEnhancedDescription;
+        return payload != null ? payload.getReadabilityEnhancedDescription() : null;
     }
 
     public void setReadabilityEnhancedDescription(String readabilityEnhancedDescription) {
-        this.readabilityEnhancedDescription = readabilityEnhancedDescription;
+        payload().setReadabilityEnhancedDescription(readabilityEnhancedDescription);
     }
 
     public String getLanguageDetected() {
@@ -388,6 +392,22 @@ public class CrimeReport {
         this.blockchainTimestamp = blockchainTimestamp;
     }
 
+    public String getDuplicateOf() {
+        return duplicateOf;
+    }
+
+    public void setDuplicateOf(String duplicateOf) {
+        this.duplicateOf = duplicateOf;
+    }
+
+    public boolean isArchived() {
+        return archived;
+    }
+
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+
     public Authority getAssignedOfficer() {
         return assignedOfficerId;
     }
@@ -475,20 +495,6 @@ public class CrimeReport {
     @Column(name = "spam_score")
     private Double spamScore;
 
-    @Type(JsonType.class)
-    @Column(name = "toxicity_scores", columnDefinition = "jsonb")
-    private String toxicityScores;
-
-    @Type(JsonType.class)
-    @Column(name = "shap_explanation", columnDefinition = "jsonb")
-    private String shapExplanation;
-
-    @Column(name = "translated_description", columnDefinition = "TEXT")
-    private String translatedDescription;
-
-    @Column(name = "readability_enhanced_description", columnDefinition = "TEXT")
-    private String readabilityEnhancedDescription;
-
     @Column(name = "language_detected", length = 10)
     private String languageDetected;
 
@@ -518,4 +524,15 @@ public class CrimeReport {
     @Column(name = "blockchain_timestamp")
     private LocalDateTime blockchainTimestamp;
 
+    @Column(name = "duplicate_of", length = 32)
+    private String duplicateOf;
+
+    @Column(name = "archived", nullable = false)
+    private boolean archived;
+
+    // descriptions, attachments and ML explanations live in crime_report_payloads and load on first access
+    @OneToOne(fetch = FetchType.LAZY, optional = false, cascade = CascadeType.ALL)
+    @PrimaryKeyJoinColumn
+    private CrimeReportPayload payload;
+
 }
\ No newline at end of file
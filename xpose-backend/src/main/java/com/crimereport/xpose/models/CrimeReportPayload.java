@@ -0,0 +1,91 @@
+package com.crimereport.xpose.models;
+
+import com.vladmihalcea.hibernate.type.json.JsonType;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
+
+@Entity
+@Table(name = "crime_report_payloads")
+public class CrimeReportPayload {
+
+    @Id
+    @Column(name = "report_id", length = 32)
+    private String reportId;
+
+    @Column(name = "original_description", columnDefinition = "TEXT", nullable = false)
+    private String originalDescription;
+
+    @Column(name = "translated_description", columnDefinition = "TEXT")
+    private String translatedDescription;
+
+    @Column(name = "readability_enhanced_description", columnDefinition = "TEXT")
+    private String readabilityEnhancedDescription;
+
+    @Type(JsonType.class)
+    @Column(columnDefinition = "jsonb")
+    private String attachments;
+
+    @Type(JsonType.class)
+    @Column(name = "toxicity_scores", columnDefinition = "jsonb")
+    private String toxicityScores;
+
+    @Type(JsonType.class)
+    @Column(name = "shap_explanation", columnDefinition = "jsonb")
+    private String shapExplanation;
+
+    public String getReportId() {
+        return reportId;
+    }
+
+    public void setReportId(String reportId) {
+        this.reportId = reportId;
+    }
+
+    public String getOriginalDescription() {
+        return originalDescription;
+    }
+
+    public void setOriginalDescription(String originalDescription) {
+        this.originalDescription = originalDescription;
+    }
+
+    public String getTranslatedDescription() {
+        return translatedDescription;
+    }
+
+    public void setTranslatedDescription(String translatedDescription) {
+        this.translatedDescription = translatedDescription;
+    }
+
+    public String getReadabilityEnhancedDescription() {
+        return readabilityEnhancedDescription;
+    }
+
+    public void setReadabilityEnhancedDescription(String readabilityEnhancedDescription) {
+        this.readabilityEnhancedDescription = readabilityEnhancedDescription;
+    }
+
+    public String getAttachments() {
+        return attachments;
+    }
+
+    public void setAttachments(String attachments) {
+        this.attachments = attachments;
+    }
+
+    public String getToxicityScores() {
+        return toxicityScores;
+    }
+
+    public void setToxicityScores(String toxicityScores) {
+        this.toxicityScores = toxicityScores;
+    }
+
+    public String getShapExplanation() {
+        return shapExplanation;
+    }
+
+    public void setShapExplanation(String shapExplanation) {
+        this.shapExplanation = shapExplanation;
+    }
+}
@@ -0,0 +1,105 @@
+package com.crimereport.xpose.models;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Entity
+@Table(name = "report_heat_cells")
+@IdClass(ReportHeatCell.Key.class)
+public class ReportHeatCell {
+
+    @Id
+    @Column(name = "zoom")
+    private int zoom;
+
+    @Id
+    @Column(name = "cell_x")
+    private int cellX;
+
+    @Id
+    @Column(name = "cell_y")
+    private int cellY;
+
+    @Id
+    @Column(name = "day")
+    private LocalDate day;
+
+    @Id
+    @Column(name = "crime_category_id")
+    private Long crimeCategoryId;
+
+    @Column(name = "report_count", nullable = false)
+    private long reportCount;
+
+    public int getZoom() {
+        return zoom;
+    }
+
+    public void setZoom(int zoom) {
+        this.zoom = zoom;
+    }
+
+    public int getCellX() {
+        return cellX;
+    }
+
+    public void setCellX(int cellX) {
+        this.cellX = cellX;
+    }
+
+    public int getCellY() {
+        return cellY;
+    }
+
+    public void setCellY(int cellY) {
+        this.cellY = cellY;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public Long getCrimeCategoryId() {
+        return crimeCategoryId;
+    }
+
+    public void setCrimeCategoryId(Long crimeCategoryId) {
+        this.crimeCategoryId = crimeCategoryId;
+    }
+
+    public long getReportCount() {
+        return reportCount;
+    }
+
+    public void setReportCount(long reportCount) {
+        this.reportCount = reportCount;
+    }
+
+    public static class Key implements Serializable {
+        private int zoom;
+        private int cellX;
+        private int cellY;
+        private LocalDate day;
+        private Long crimeCategoryId;
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return zoom == key.zoom && cellX == key.cellX && cellY == key.cellY
+                    && Objects.equals(day, key.day) && Objects.equals(crimeCategoryId, key.crimeCategoryId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(zoom, cellX, cellY, day, crimeCategoryId);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.crimereport.xpose.models;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "report_stats_rollups")
+@IdClass(ReportStatsRollup.Key.class)
+public class ReportStatsRollup {
+
+    @Id
+    @Column(name = "granularity", length = 8)
+    private String granularity;
+
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Id
+    @Column(name = "dimension", length = 32)
+    private String dimension;
+
+    @Id
+    @Column(name = "dimension_value")
+    private String dimensionValue;
+
+    @Column(name = "report_count", nullable = false)
+    private long reportCount;
+
+    public String getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(String granularity) {
+        this.granularity = granularity;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public String getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(String dimension) {
+        this.dimension = dimension;
+    }
+
+    public String getDimensionValue() {
+        return dimensionValue;
+    }
+
+    public void setDimensionValue(String dimensionValue) {
+        this.dimensionValue = dimensionValue;
+    }
+
+    public long getReportCount() {
+        return reportCount;
+    }
+
+    public void setReportCount(long reportCount) {
+        this.reportCount = reportCount;
+    }
+
+    public static class Key implements Serializable {
+        private String granularity;
+        private LocalDateTime bucketStart;
+        private String dimension;
+        private String dimensionValue;
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(granularity, key.granularity) && Objects.equals(bucketStart, key.bucketStart)
+                    && Objects.equals(dimension, key.dimension) && Objects.equals(dimensionValue, key.dimensionValue);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(granularity, bucketStart, dimension, dimensionValue);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.crimereport.xpose.repository;
+
+import com.crimereport.xpose.models.AssignmentJob;
+import com.crimereport.xpose.models.AssignmentJob.JobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface AssignmentJobRepository extends JpaRepository<AssignmentJob, Long> {
+    List<AssignmentJob> findByStatus(JobStatus status);
+    List<AssignmentJob> findTop20ByOrderByStartedAtDesc();
+}
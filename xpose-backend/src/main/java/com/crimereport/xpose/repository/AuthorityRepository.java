@@ -2,6 +2,8 @@ package com.crimereport.xpose.repository;
 
 import com.crimereport.xpose.models.Authority;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -13,5 +15,8 @@ public interface AuthorityRepository extends JpaRepository<Authority, Long> {
     List<Authority> findByRole(String role);
 
     List<Authority> findByStationId(Long stationId);
+
+    @Query("SELECT a.id FROM Authority a WHERE a.station.id = :stationId")
+    List<Long> findIdsByStationId(@Param("stationId") Long stationId);
 }
 
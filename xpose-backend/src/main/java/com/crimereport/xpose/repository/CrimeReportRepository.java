@@ -1,13 +1,17 @@
 package com.crimereport.xpose.repository;
 
 import com.crimereport.xpose.dto.CrimeReportList;
+import com.crimereport.xpose.dto.DuplicateCandidate;
 import com.crimereport.xpose.models.CrimeReport;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,7 +20,7 @@ public interface CrimeReportRepository extends JpaRepository<CrimeReport, String
     @Query("""
     SELECT new com.crimereport.xpose.dto.CrimeReportList(
         cr.id, ct.name, cr.crimeTypeId, cr.crimeCategoryId, cc.name,
-        cr.originalDescription, cr.translatedDescription,
+        p.originalDescription, p.translatedDescription,
         cr.address, cr.city, cr.state, cr.policeStation,
         cr.status, cr.urgencyLevel, cr.submittedAt,
         ao.id,
@@ -25,15 +29,16 @@ public interface CrimeReportRepository extends JpaRepository<CrimeReport, String
         cr.policeStatus  
     )
     FROM CrimeReport cr
+    LEFT JOIN cr.payload p
     LEFT JOIN CrimeType ct ON ct.id = cr.crimeTypeId
     LEFT JOIN CrimeCategory cc ON cc.id = cr.crimeCategoryId
     LEFT JOIN cr.assignedOfficerId ao
     LEFT JOIN PoliceStation ps ON ps.name = cr.policeStation
-    WHERE (
+    WHERE cr.archived = false AND ((
         :officerId IS NOT NULL AND ao.id = :officerId
     ) OR (
         :officerId IS NULL AND (:stationId IS NULL OR ps.id = :stationId)
-    )
+    ))
     ORDER BY cr.submittedAt DESC
     """)
     Page<CrimeReportList> findAllReportsForList(
@@ -53,6 +58,62 @@ public interface CrimeReportRepository extends JpaRepository<CrimeReport, String
 
     boolean existsById(String id);
 
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM crime_report_ids WHERE id = :id)", nativeQuery = true)
+    boolean isIdTaken(@Param("id") String id);
+
+    // fails with a unique violation if the ID was taken concurrently; must run in the report's transaction
+    @Modifying
+    @Query(value = "INSERT INTO crime_report_ids (id) VALUES (:id)", nativeQuery = true)
+    int reserveId(@Param("id") String id);
+
     @Query("SELECT COUNT(cr) > 0 FROM CrimeReport cr WHERE cr.id = :id")
     boolean existsByReportId(@Param("id") String id);
-}
\ No newline at end of file
+
+    @Query("""
+    SELECT cr FROM CrimeReport cr
+    WHERE cr.archived = false
+      AND cr.assignedOfficerId IS NULL
+      AND cr.adminStatus = :adminStatus
+      AND cr.status <> :excludedStatus
+      AND cr.id > :afterId
+    ORDER BY cr.id
+    """)
+    List<CrimeReport> findUnassignedAfter(
+            @Param("afterId") String afterId,
+            @Param("adminStatus") CrimeReport.AdminStatus adminStatus,
+            @Param("excludedStatus") CrimeReport.ReportStatus excludedStatus,
+            Pageable pageable
+    );
+
+    @Query("""
+    SELECT COUNT(cr) FROM CrimeReport cr
+    WHERE cr.archived = false
+      AND cr.assignedOfficerId IS NULL
+      AND cr.adminStatus = :adminStatus
+      AND cr.status <> :excludedStatus
+      AND cr.id > :afterId
+    """)
+    long countUnassignedAfter(
+            @Param("afterId") String afterId,
+            @Param("adminStatus") CrimeReport.AdminStatus adminStatus,
+            @Param("excludedStatus") CrimeReport.ReportStatus excludedStatus
+    );
+
+    @Query("""
+    SELECT new com.crimereport.xpose.dto.DuplicateCandidate(
+        cr.id, cr.state, cr.city, p.translatedDescription, cr.submittedAt
+    )
+    FROM CrimeReport cr
+    JOIN cr.payload p
+    WHERE cr.archived = false
+      AND cr.submittedAt >= :since
+      AND cr.status = :status
+      AND cr.duplicateOf IS NULL
+    ORDER BY cr.submittedAt, cr.id
+    """)
+    List<DuplicateCandidate> findDuplicateCandidatesSince(
+            @Param("since") LocalDateTime since,
+            @Param("status") CrimeReport.ReportStatus status,
+            Pageable pageable
+    );
+}
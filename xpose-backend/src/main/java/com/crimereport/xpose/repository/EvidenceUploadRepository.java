@@ -0,0 +1,39 @@
+package com.crimereport.xpose.repository;
+
+import com.crimereport.xpose.models.EvidenceUpload;
+import com.crimereport.xpose.models.EvidenceUpload.UploadStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface EvidenceUploadRepository extends JpaRepository<EvidenceUpload, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM EvidenceUpload u WHERE u.id = :id")
+    Optional<EvidenceUpload> findByIdForUpdate(@Param("id") String id);
+
+    List<EvidenceUpload> findByStatusAndUpdatedAtBefore(UploadStatus status, LocalDateTime cutoff);
+
+    // its own short transaction: the chunk has already been written, only the offset check needs to be atomic
+    @Transactional
+    @Modifying
+    @Query("UPDATE EvidenceUpload u SET u.receivedBytes = :receivedBytes, u.updatedAt = :now " +
+            "WHERE u.id = :id AND u.receivedBytes = :offset AND u.status = :status")
+    int advanceReceivedBytes(@Param("id") String id, @Param("offset") long offset,
+                             @Param("receivedBytes") long receivedBytes, @Param("status") UploadStatus status,
+                             @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE EvidenceUpload u SET u.status = :newStatus, u.updatedAt = :now WHERE u.id IN :ids AND u.status = :status")
+    int updateStatusWhere(@Param("ids") Collection<String> ids, @Param("status") UploadStatus status,
+                          @Param("newStatus") UploadStatus newStatus, @Param("now") LocalDateTime now);
+}
@@ -1,14 +1,72 @@
 package com.crimereport.xpose.repository;
 
+import com.crimereport.xpose.dto.NotificationItem;
 import com.crimereport.xpose.models.Notification;
 import com.crimereport.xpose.models.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByRecipientOrderByCreatedAtDesc(User recipient);
     List<Notification> findByRecipientAndIsReadFalseOrderByCreatedAtDesc(User recipient);
-}
\ No newline at end of file
+
+    @Query("""
+    SELECT new com.crimereport.xpose.dto.NotificationItem(n.id, n.type, n.title, n.message, n.createdAt, n.isRead)
+    FROM Notification n
+    WHERE n.recipient.id = :userId
+    ORDER BY n.createdAt DESC, n.id DESC
+    """)
+    List<NotificationItem> findInbox(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+    SELECT new com.crimereport.xpose.dto.NotificationItem(n.id, n.type, n.title, n.message, n.createdAt, n.isRead)
+    FROM Notification n
+    WHERE n.recipient.id = :userId
+      AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+    ORDER BY n.createdAt DESC, n.id DESC
+    """)
+    List<NotificationItem> findInboxBefore(@Param("userId") Long userId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    @Query("""
+    SELECT new com.crimereport.xpose.dto.NotificationItem(n.id, n.type, n.title, n.message, n.createdAt, n.isRead)
+    FROM Notification n
+    WHERE n.recipient.id = :userId AND n.isRead = false
+    ORDER BY n.createdAt DESC, n.id DESC
+    """)
+    List<NotificationItem> findUnreadInbox(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+    SELECT new com.crimereport.xpose.dto.NotificationItem(n.id, n.type, n.title, n.message, n.createdAt, n.isRead)
+    FROM Notification n
+    WHERE n.recipient.id = :userId AND n.isRead = false
+      AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+    ORDER BY n.createdAt DESC, n.id DESC
+    """)
+    List<NotificationItem> findUnreadInboxBefore(@Param("userId") Long userId,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    @Query("SELECT n.recipient.id FROM Notification n WHERE n.id = :id")
+    Optional<Long> findRecipientIdById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.isRead = false")
+    int markAsReadIfUnread(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.recipient.id = :userId AND n.isRead = false")
+    int markAllAsReadForUser(@Param("userId") Long userId);
+}
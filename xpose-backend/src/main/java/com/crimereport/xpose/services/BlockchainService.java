@@ -1,7 +1,13 @@
 package com.crimereport.xpose.services;
 
+import com.crimereport.xpose.config.OutboundHttpClientFactory;
 import com.crimereport.xpose.dto.CrimeReportRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -14,17 +20,22 @@ import java.util.Map;
 @Service
 public class BlockchainService {
 
+    private static final Logger logger = LoggerFactory.getLogger(BlockchainService.class);
+
     @Value("${blockchain.api.host}")
     private String host;
 
     @Value("${blockchain.api.port}")
     private String port;
 
+    @Autowired
+    private DependencyGuard dependencyGuard;
+
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
 
-    public BlockchainService() {
-        this.restTemplate = new RestTemplate();
+    public BlockchainService(OutboundHttpClientFactory httpClientFactory) {
+        this.restTemplate = httpClientFactory.restTemplate(OutboundHttpClientFactory.BLOCKCHAIN);
         this.objectMapper = new ObjectMapper();
     }
 
@@ -43,14 +54,15 @@ public class BlockchainService {
             blockData.put("submittedAt", LocalDateTime.now().toString());
 
             String jsonData = objectMapper.writeValueAsString(blockData);
-            System.out.println("Sending to blockchain: " + jsonData);
+            logger.debug("Sending to blockchain: {}", jsonData);
 
             String url = String.format("http://%s:%s/add", host, port);
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<String> entity = new HttpEntity<>(jsonData, headers);
 
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, entity, Map.class);
+            ResponseEntity<Map> response = dependencyGuard.call(DependencyGuard.BLOCKCHAIN,
+                    () -> restTemplate.postForEntity(url, entity, Map.class));
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 return response.getBody();
@@ -58,8 +70,11 @@ public class BlockchainService {
                 return Map.of("success", false);
             }
 
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            logger.warn("Blockchain service unavailable, skipping anchoring: {}", e.getMessage());
+            return Map.of("success", false, "error", e.getMessage());
         } catch (Exception e) {
-            System.err.println("Error sending report to blockchain: " + e.getMessage());
+            logger.error("Error sending report to blockchain: {}", e.getMessage());
             return Map.of("success", false, "error", e.getMessage());
         }
     }
@@ -0,0 +1,308 @@
+package com.crimereport.xpose.services;
+
+import com.crimereport.xpose.models.AssignmentJob;
+import com.crimereport.xpose.models.AssignmentJob.JobStatus;
+import com.crimereport.xpose.models.CrimeReport;
+import com.crimereport.xpose.models.PoliceStation;
+import com.crimereport.xpose.repository.AssignmentJobRepository;
+import com.crimereport.xpose.repository.AuthorityRepository;
+import com.crimereport.xpose.repository.CrimeReportRepository;
+import com.crimereport.xpose.repository.PoliceStationRepository;
+import com.crimereport.xpose.util.StationSpatialIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class BulkAssignmentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkAssignmentService.class);
+
+    private static final String PROGRESS_TOPIC = "/topic/assignment.progress";
+
+    @Autowired
+    private CrimeReportRepository crimeReportRepository;
+
+    @Autowired
+    private AssignmentJobRepository assignmentJobRepository;
+
+    @Autowired
+    private AuthorityRepository authorityRepository;
+
+    @Autowired
+    private PoliceStationRepository policeStationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReportStatsService reportStatsService;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    @Qualifier("bulkAssignmentExecutor")
+    private TaskExecutor bulkAssignmentExecutor;
+
+    @Value("${app.assignment.bulk.chunk-size:200}")
+    private int defaultChunkSize;
+
+    @Value("${app.assignment.bulk.max-distance-meters:20000}")
+    private int defaultMaxDistanceMeters;
+
+    @Value("${app.assignment.bulk.cell-size-degrees:0.25}")
+    private double cellSizeDegrees;
+
+    private final Set<Long> cancelRequested = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock jobLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void markInterruptedJobs() {
+        for (AssignmentJob job : assignmentJobRepository.findByStatus(JobStatus.RUNNING)) {
+            job.setStatus(JobStatus.INTERRUPTED);
+            job.setUpdatedAt(LocalDateTime.now());
+            assignmentJobRepository.save(job);
+            logger.warn("Bulk assignment job {} was interrupted by a restart at report {}", job.getId(), job.getLastReportId());
+        }
+    }
+
+    public AssignmentJob startJob(Integer chunkSize, Integer maxDistanceMeters) {
+        jobLock.lock();
+        try {
+            return doStartJob(chunkSize, maxDistanceMeters);
+        } finally {
+            jobLock.unlock();
+        }
+    }
+
+    public AssignmentJob resumeJob(Long jobId) {
+        jobLock.lock();
+        try {
+            return doResumeJob(jobId);
+        } finally {
+            jobLock.unlock();
+        }
+    }
+
+    private AssignmentJob doStartJob(Integer chunkSize, Integer maxDistanceMeters) {
+        ensureNoRunningJob();
+
+        AssignmentJob job = new AssignmentJob();
+        job.setChunkSize(chunkSize != null && chunkSize > 0 ? Math.min(chunkSize, 1000) : defaultChunkSize);
+        job.setMaxDistanceMeters(maxDistanceMeters != null && maxDistanceMeters > 0 ? maxDistanceMeters : defaultMaxDistanceMeters);
+        job.setLastReportId("");
+        job.setTotalCandidates(crimeReportRepository.countUnassignedAfter("",
+                CrimeReport.AdminStatus.PENDING, CrimeReport.ReportStatus.REJECTED));
+        job = assignmentJobRepository.save(job);
+
+        logger.info("Starting bulk assignment job {} for {} unassigned reports (chunkSize={}, maxDistance={}m)",
+                job.getId(), job.getTotalCandidates(), job.getChunkSize(), job.getMaxDistanceMeters());
+
+        Long jobId = job.getId();
+        bulkAssignmentExecutor.execute(() -> runJob(jobId));
+        return job;
+    }
+
+    private AssignmentJob doResumeJob(Long jobId) {
+        AssignmentJob job = assignmentJobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Assignment job not found: " + jobId));
+
+        if (job.getStatus() == JobStatus.RUNNING || job.getStatus() == JobStatus.COMPLETED) {
+            throw new IllegalStateException("Assignment job " + jobId + " cannot be resumed from status " + job.getStatus());
+        }
+        ensureNoRunningJob();
+
+        job.setStatus(JobStatus.RUNNING);
+        job.setErrorMessage(null);
+        job.setFinishedAt(null);
+        job.setUpdatedAt(LocalDateTime.now());
+        job = assignmentJobRepository.save(job);
+
+        logger.info("Resuming bulk assignment job {} after report {}", jobId, job.getLastReportId());
+        bulkAssignmentExecutor.execute(() -> runJob(jobId));
+        return job;
+    }
+
+    public void cancelJob(Long jobId) {
+        AssignmentJob job = assignmentJobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Assignment job not found: " + jobId));
+        if (job.getStatus() != JobStatus.RUNNING) {
+            throw new IllegalStateException("Assignment job " + jobId + " is not running");
+        }
+        cancelRequested.add(jobId);
+    }
+
+    public Optional<AssignmentJob> getJob(Long jobId) {
+        return assignmentJobRepository.findById(jobId);
+    }
+
+    public List<AssignmentJob> getRecentJobs() {
+        return assignmentJobRepository.findTop20ByOrderByStartedAtDesc();
+    }
+
+    private void ensureNoRunningJob() {
+        List<AssignmentJob> running = assignmentJobRepository.findByStatus(JobStatus.RUNNING);
+        if (!running.isEmpty()) {
+            throw new IllegalStateException("Assignment job " + running.get(0).getId() + " is already running");
+        }
+    }
+
+    private void runJob(Long jobId) {
+        AssignmentJob job = assignmentJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            logger.error("Bulk assignment job {} disappeared before it started", jobId);
+            return;
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        StationSpatialIndex stationIndex = new StationSpatialIndex(policeStationRepository.findAll(), cellSizeDegrees);
+        Map<Long, List<Long>> officerIdsByStation = new HashMap<>();
+
+        logger.info("Bulk assignment job {} indexed {} stations with coordinates", jobId, stationIndex.size());
+
+        try {
+            while (true) {
+                if (cancelRequested.remove(jobId)) {
+                    finishJob(job, JobStatus.CANCELLED, null);
+                    return;
+                }
+
+                AssignmentJob current = job;
+                ChunkResult result = transactionTemplate.execute(status ->
+                        assignChunk(current, stationIndex, officerIdsByStation));
+
+                job = result.job;
+                publishProgress(job);
+
+                if (result.fetched < job.getChunkSize()) {
+                    finishJob(job, JobStatus.COMPLETED, null);
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Bulk assignment job {} failed after report {}: {}", jobId, job.getLastReportId(), e.getMessage(), e);
+            cancelRequested.remove(jobId);
+            AssignmentJob lastCheckpoint = assignmentJobRepository.findById(jobId).orElse(job);
+            finishJob(lastCheckpoint, JobStatus.FAILED, e.getMessage());
+        }
+    }
+
+    private ChunkResult assignChunk(AssignmentJob job, StationSpatialIndex stationIndex,
+                                    Map<Long, List<Long>> officerIdsByStation) {
+        List<CrimeReport> chunk = crimeReportRepository.findUnassignedAfter(
+                job.getLastReportId(),
+                CrimeReport.AdminStatus.PENDING,
+                CrimeReport.ReportStatus.REJECTED,
+                PageRequest.of(0, job.getChunkSize())
+        );
+
+        List<CrimeReport> toSave = new ArrayList<>(chunk.size());
+        Map<String, Map<String, String>> before = new HashMap<>();
+        long skipped = 0;
+
+        for (CrimeReport report : chunk) {
+            PoliceStation station = resolveStation(report, stationIndex, job.getMaxDistanceMeters());
+            if (station == null) {
+                skipped++;
+                continue;
+            }
+
+            List<Long> officerIds = officerIdsByStation.computeIfAbsent(station.getId(),
+                    authorityRepository::findIdsByStationId);
+            if (officerIds.isEmpty()) {
+                skipped++;
+                continue;
+            }
+
+            Long officerId = officerIds.get(ThreadLocalRandom.current().nextInt(officerIds.size()));
+            before.put(report.getId(), reportStatsService.snapshot(report));
+            report.setAssignedOfficer(authorityRepository.getReferenceById(officerId));
+            report.setPoliceStation(station.getName());
+            toSave.add(report);
+        }
+
+        crimeReportRepository.saveAll(toSave);
+        reportStatsService.recordChanges(before, toSave);
+
+        if (!chunk.isEmpty()) {
+            job.setLastReportId(chunk.get(chunk.size() - 1).getId());
+        }
+        job.setProcessed(job.getProcessed() + chunk.size());
+        job.setAssigned(job.getAssigned() + toSave.size());
+        job.setSkipped(job.getSkipped() + skipped);
+        job.setUpdatedAt(LocalDateTime.now());
+
+        return new ChunkResult(assignmentJobRepository.save(job), chunk.size());
+    }
+
+    private PoliceStation resolveStation(CrimeReport report, StationSpatialIndex stationIndex, int maxDistanceMeters) {
+        if (report.getLatitude() != null && report.getLongitude() != null) {
+            PoliceStation nearest = stationIndex.findNearest(report.getLatitude(), report.getLongitude(), maxDistanceMeters);
+            if (nearest != null) {
+                return nearest;
+            }
+        }
+        return stationIndex.findByName(report.getPoliceStation());
+    }
+
+    private void finishJob(AssignmentJob job, JobStatus status, String errorMessage) {
+        job.setStatus(status);
+        job.setErrorMessage(errorMessage);
+        job.setFinishedAt(LocalDateTime.now());
+        job.setUpdatedAt(job.getFinishedAt());
+        AssignmentJob saved = assignmentJobRepository.save(job);
+        publishProgress(saved);
+
+        logger.info("Bulk assignment job {} {}: processed={}, assigned={}, skipped={}",
+                saved.getId(), status, saved.getProcessed(), saved.getAssigned(), saved.getSkipped());
+    }
+
+    private void publishProgress(AssignmentJob job) {
+        try {
+            Map<String, Object> progress = new HashMap<>();
+            progress.put("jobId", job.getId());
+            progress.put("status", job.getStatus().toString());
+            progress.put("totalCandidates", job.getTotalCandidates());
+            progress.put("processed", job.getProcessed());
+            progress.put("assigned", job.getAssigned());
+            progress.put("skipped", job.getSkipped());
+            progress.put("lastReportId", job.getLastReportId());
+            progress.put("timestamp", System.currentTimeMillis());
+            messagingTemplate.convertAndSend(PROGRESS_TOPIC, progress);
+        } catch (Exception e) {
+            logger.warn("Failed to publish progress for assignment job {}: {}", job.getId(), e.getMessage());
+        }
+    }
+
+    private static class ChunkResult {
+        private final AssignmentJob job;
+        private final int fetched;
+
+        private ChunkResult(AssignmentJob job, int fetched) {
+            this.job = job;
+            this.fetched = fetched;
+        }
+    }
+}
@@ -1,23 +1,29 @@
 package com.crimereport.xpose.services;
 
 import com.crimereport.xpose.dto.CrimeReportRequest;
+import com.crimereport.xpose.dto.GeminiEnrichment;
 import com.crimereport.xpose.models.Authority;
 import com.crimereport.xpose.models.CrimeReport;
 import com.crimereport.xpose.models.CrimeType;
 import com.crimereport.xpose.repository.CrimeReportRepository;
 import com.crimereport.xpose.repository.CrimeTypeRepository;
+import com.crimereport.xpose.util.KeywordMatcher;
 import com.crimereport.xpose.util.TrackingIdGenerator;
+import io.micrometer.observation.Observation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class CrimeReportService {
@@ -43,6 +49,33 @@ public class CrimeReportService {
     @Autowired
     private FileStorageService fileStorageService;
 
+    @Autowired
+    private SubmissionMetrics submissionMetrics;
+
+    @Autowired
+    private KeywordService keywordService;
+
+    @Autowired
+    private DuplicateReportIndex duplicateReportIndex;
+
+    @Autowired
+    private ReportStatsService reportStatsService;
+
+    @Autowired
+    private EvidenceUploadService evidenceUploadService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private HeatmapService heatmapService;
+
+    @Value("${app.keywords.urgency-boost-min-hits:2}")
+    private int urgencyBoostMinHits;
+
+    @Value("${app.gemini.combined-enrichment:true}")
+    private boolean combinedEnrichment;
+
     @Value("${app.evidence.upload.dir}")
     private String evidenceUploadDir;
 
@@ -84,7 +117,7 @@ public class CrimeReportService {
 
         if (crimeTypeId != null) {
             report.setCrimeTypeId(crimeTypeId);
-            logger.info("Set crime type ID: {} for name: {}", crimeTypeId, request.getCrimeType());
+            logger.debug("Set crime type ID: {} for name: {}", crimeTypeId, request.getCrimeType());
         } else {
             logger.warn("Using default crime type for: {}", request.getCrimeType());
             report.setCrimeTypeId(1L);
@@ -92,43 +125,79 @@ public class CrimeReportService {
     }
 
     public Map<String, Object> submitCrimeReport(CrimeReportRequest request) {
+        Observation submission = submissionMetrics.submissionStarted();
+        Map<String, Object> response = null;
+        try (Observation.Scope scope = submission.openScope()) {
+            response = processCrimeReport(request);
+            return response;
+        } finally {
+            submissionMetrics.submissionFinished(submission, outcomeOf(response));
+        }
+    }
+
+    private Map<String, Object> processCrimeReport(CrimeReportRequest request) {
         try {
-            logger.info("=== CRIME REPORT PROCESSING STARTED ===");
+            logger.debug("=== CRIME REPORT PROCESSING STARTED ===");
 
 
             List<String> savedEvidenceFiles = new ArrayList<>();
             if (request.getEvidenceFiles() != null && !request.getEvidenceFiles().isEmpty()) {
-                logger.info("Processing {} evidence files", request.getEvidenceFiles().size());
-
-                for (MultipartFile file : request.getEvidenceFiles()) {
-                    try {
-                        String savedFileName = fileStorageService.storeEvidenceFile(file);
-                        savedEvidenceFiles.add(savedFileName);
-                        logger.info("Saved evidence file: {}", savedFileName);
-                    } catch (Exception e) {
-                        logger.error("Failed to save evidence file {}: {}", file.getOriginalFilename(), e.getMessage());
-
+                logger.debug("Processing {} evidence files", request.getEvidenceFiles().size());
+
+                submissionMetrics.observe(SubmissionMetrics.Phase.EVIDENCE_STORE, () -> {
+                    for (MultipartFile file : request.getEvidenceFiles()) {
+                        try {
+                            String savedFileName = fileStorageService.storeEvidenceFile(file);
+                            savedEvidenceFiles.add(savedFileName);
+                            logger.debug("Saved evidence file: {}", savedFileName);
+                        } catch (Exception e) {
+                            submissionMetrics.error(SubmissionMetrics.Phase.EVIDENCE_STORE);
+                            logger.error("Failed to save evidence file {}: {}", file.getOriginalFilename(), e.getMessage());
+
+                        }
                     }
-                }
+                });
+            }
+
+            if (request.getUploadedEvidenceFiles() != null && !request.getUploadedEvidenceFiles().isEmpty()) {
+                savedEvidenceFiles.addAll(request.getUploadedEvidenceFiles());
+                logger.debug("Attached {} pre-uploaded evidence files", request.getUploadedEvidenceFiles().size());
             }
 
             String originalDescription = request.getDescription();
-            logger.info("Original Description: {}", originalDescription);
-
-            logger.info("=== PHASE 1: PRE-PROCESSING VALIDATION ===");
-            String textForMLAnalysis = originalDescription;
-            String rawTranslation = null;
-            boolean isEnglish = geminiService.isTextInEnglish(originalDescription);
-
-            if (!isEnglish) {
-                logger.info("Text not in English, translating for ML analysis only...");
-                rawTranslation = geminiService.translateToEnglish(originalDescription);
-                textForMLAnalysis = rawTranslation;
-                logger.info("Translated for ML analysis: {}", textForMLAnalysis);
+            logger.debug("Original Description: {}", originalDescription);
+
+            logger.debug("=== PHASE 1: PRE-PROCESSING VALIDATION ===");
+            String rawTranslation;
+            CompletableFuture<String> readability;
+            if (combinedEnrichment) {
+                GeminiEnrichment enrichment = submissionMetrics.observe(SubmissionMetrics.Phase.ENRICHMENT,
+                        geminiService.enrichMono(originalDescription)).block();
+                rawTranslation = enrichment.isEnglish() ? null : enrichment.getEnglishText();
+                readability = CompletableFuture.completedFuture(enrichment.getReadableText());
+            } else {
+                rawTranslation = submissionMetrics.observe(SubmissionMetrics.Phase.LANGUAGE_DETECT,
+                                geminiService.isTextInEnglishMono(originalDescription))
+                        .filter(isEnglish -> !isEnglish)
+                        .flatMap(notEnglish -> {
+                            logger.debug("Text not in English, translating for ML analysis only...");
+                            return submissionMetrics.observe(SubmissionMetrics.Phase.TRANSLATE,
+                                    geminiService.translateToEnglishMono(originalDescription));
+                        })
+                        .block();
+                readability = submissionMetrics.observe(SubmissionMetrics.Phase.READABILITY,
+                        geminiService.improveReadabilityOnlyMono(rawTranslation != null ? rawTranslation : originalDescription)).toFuture();
+            }
+            if (rawTranslation != null) {
+                logger.debug("Translated for ML analysis: {}", rawTranslation);
             }
 
-            Map<String, Object> preProcessingMLResult = mlService.classifyDescription(textForMLAnalysis);
-            logger.info("=== PRE-PROCESSING ML RESULTS ===");
+            String textForMLAnalysis = rawTranslation != null ? rawTranslation : originalDescription;
+
+            // the pipeline annotates this map, so work on a copy rather than whatever the classifier returned
+            Map<String, Object> preProcessingMLResult = new HashMap<>(submissionMetrics.observe(SubmissionMetrics.Phase.PRE_ML,
+                    () -> mlService.classifyDescription(textForMLAnalysis)));
+            logger.debug("=== PRE-PROCESSING ML RESULTS ===");
             logMLResults(preProcessingMLResult);
             preProcessingMLResult.put("translated_description", rawTranslation != null ? rawTranslation : originalDescription);
 
@@ -138,25 +207,42 @@ public class CrimeReportService {
 
             if (isPreProcessingSpamOrToxic) {
                 logger.warn("Report REJECTED in pre-processing phase due to spam/toxic/hate speech content");
+                readability.cancel(true);
                 return createRejectedResponse(originalDescription, originalDescription, preProcessingMLResult, "PRE_PROCESSING", request, savedEvidenceFiles);
             }
 
-            logger.info("=== PHASE 2: GEMINI PROCESSING FOR READABILITY ===");
-            String processedDescription = processDescriptionForReadability(originalDescription, rawTranslation);
-            logger.info("Processed Description: {}", processedDescription);
+            // only link submissions that passed the pre-ML checks
+            String duplicateOf = duplicateReportIndex.findDuplicate(request.getState(), request.getDistrict(), textForMLAnalysis)
+                    .map(DuplicateReportIndex.Match::reportId)
+                    .orElse(null);
+            if (duplicateOf != null) {
+                logger.debug("Submission is a near-duplicate of report {}", duplicateOf);
+                if (duplicateReportIndex.isShortCircuit()) {
+                    Optional<CrimeReport> canonical = crimeReportRepository.findById(duplicateOf);
+                    if (canonical.isPresent()) {
+                        readability.cancel(true);
+                        return createDuplicateResponse(request, originalDescription, textForMLAnalysis, canonical.get(), preProcessingMLResult, savedEvidenceFiles);
+                    }
+                }
+            }
+
+            logger.debug("=== PHASE 2: GEMINI PROCESSING FOR READABILITY ===");
+            String processedDescription = readability.join();
+            logger.debug("Processed Description: {}", processedDescription);
 
             if ("SPAM_DETECTED".equals(processedDescription)) {
                 logger.warn("Gemini detected additional spam patterns");
                 return createSpamResponse(originalDescription, request, preProcessingMLResult, savedEvidenceFiles);
             }
 
-            logger.info("=== PHASE 3: POST-PROCESSING QUALITY CHECK ===");
-            Map<String, Object> postProcessingMLResult = mlService.classifyDescription(processedDescription);
+            logger.debug("=== PHASE 3: POST-PROCESSING QUALITY CHECK ===");
+            Map<String, Object> postProcessingMLResult = submissionMetrics.observe(SubmissionMetrics.Phase.POST_ML,
+                    () -> mlService.classifyDescription(processedDescription));
 
             Map<String, Object> finalResult = combineMlResults(preProcessingMLResult, postProcessingMLResult);
             Map<String, Object> validatedResult = applyValidationOverrides(finalResult, originalDescription, processedDescription);
 
-            logger.info("=== FINAL ML CLASSIFICATION RESULTS ===");
+            logger.debug("=== FINAL ML CLASSIFICATION RESULTS ===");
             logMLResults(validatedResult);
 
             boolean isFinalSpamOrToxic = (Boolean) validatedResult.getOrDefault("is_spam", false) ||
@@ -170,14 +256,28 @@ public class CrimeReportService {
 
             logReportDetails(request, originalDescription, processedDescription, validatedResult);
 
-            return createSuccessResponse(request, originalDescription, processedDescription, validatedResult, savedEvidenceFiles);
+            return createSuccessResponse(request, originalDescription, processedDescription, validatedResult, savedEvidenceFiles, duplicateOf);
 
         } catch (Exception e) {
+            submissionMetrics.error("pipeline");
             logger.error("Error processing crime report submission: {}", e.getMessage(), e);
             return createErrorResponse(e.getMessage());
         }
     }
 
+    private SubmissionMetrics.Outcome outcomeOf(Map<String, Object> response) {
+        if (response == null || "ERROR".equals(response.get("status"))) {
+            return SubmissionMetrics.Outcome.ERROR;
+        }
+        if (Boolean.TRUE.equals(response.get("success"))) {
+            return SubmissionMetrics.Outcome.ACCEPTED;
+        }
+        if ("SPAM_DETECTED_BY_GEMINI".equals(response.get("rejectionReason"))) {
+            return SubmissionMetrics.Outcome.SPAM;
+        }
+        return SubmissionMetrics.Outcome.REJECTED;
+    }
+
     public Map<String, Object> updateAdminStatus(String reportId, String adminStatus, Long reviewedById, String rejectionReason) {
         try {
             Optional<CrimeReport> optionalReport = crimeReportRepository.findById(reportId);
@@ -187,6 +287,7 @@ public class CrimeReportService {
             }
 
             CrimeReport report = optionalReport.get();
+            Map<String, String> before = reportStatsService.snapshot(report);
 
             try {
                 CrimeReport.AdminStatus newStatus = CrimeReport.AdminStatus.valueOf(adminStatus.toUpperCase());
@@ -213,6 +314,7 @@ public class CrimeReportService {
             }
 
             crimeReportRepository.save(report);
+            reportStatsService.recordChange(before, report);
             logger.info("Admin status updated for report ID: {} to {}", reportId, report.getAdminStatus());
 
             Map<String, Object> response = new HashMap<>();
@@ -241,6 +343,7 @@ public class CrimeReportService {
             }
 
             CrimeReport report = optionalReport.get();
+            Map<String, String> before = reportStatsService.snapshot(report);
             CrimeReport.PoliceStatus newStatus = CrimeReport.PoliceStatus.valueOf(policeStatus.toUpperCase());
 
             report.setPoliceStatus(newStatus);
@@ -267,6 +370,7 @@ public class CrimeReportService {
             }
 
             crimeReportRepository.save(report);
+            reportStatsService.recordChange(before, report);
             logger.info("Police status updated for report ID: {} to {}", reportId, newStatus);
 
             Map<String, Object> response = new HashMap<>();
@@ -309,29 +413,7 @@ public class CrimeReportService {
         }
     }
 
-    private String processDescriptionForReadability(String originalDescription, String rawTranslation) {
-        try {
-            boolean isEnglish = geminiService.isTextInEnglish(originalDescription);
-
-            String textToImprove;
-            if (!isEnglish) {
-                logger.info("Text not in English, translating for readability...");
-                if (rawTranslation == null) {
-                    rawTranslation = geminiService.translateToEnglish(originalDescription);
-                }
-                textToImprove = rawTranslation;
-            } else {
-                logger.info("Text is in English, improving readability only...");
-                textToImprove = originalDescription;
-            }
-            return geminiService.improveReadabilityOnly(textToImprove);
-        } catch (Exception e) {
-            logger.error("Error processing description with Gemini: {}", e.getMessage());
-            return originalDescription;
-        }
-    }
-
-    private Map<String, Object> combineMlResults(Map<String, Object> preResult, Map<String, Object> postResult) {
+    Map<String, Object> combineMlResults(Map<String, Object> preResult, Map<String, Object> postResult) {
         boolean isSpam = (Boolean) preResult.getOrDefault("is_spam", false) ||
                 (Boolean) postResult.getOrDefault("is_spam", false);
         boolean isHateSpeech = (Boolean) preResult.getOrDefault("is_hate_speech", false) ||
@@ -356,7 +438,9 @@ public class CrimeReportService {
 
         Map<String, Object> toxicityAnalysis = (Map<String, Object>) preResult.getOrDefault("toxicity_analysis", postResult.get("toxicity_analysis"));
 
-        Object shapExplanation = postResult.get("shap_explanation");
+        Object shapExplanation = postResult.getOrDefault("shap_explanation", Map.of());
+        boolean mlServiceAvailable = !Boolean.FALSE.equals(preResult.get("ml_service_available")) &&
+                !Boolean.FALSE.equals(postResult.get("ml_service_available"));
 
         return Map.ofEntries(
                 Map.entry("is_spam", isSpam),
@@ -371,7 +455,8 @@ public class CrimeReportService {
                 Map.entry("word_count", wordCount),
                 Map.entry("char_count", charCount),
                 Map.entry("needs_review", needsReview),
-                Map.entry("shap_explanation", shapExplanation),
+                Map.entry("shap_explanation", shapExplanation != null ? shapExplanation : Map.of()),
+                Map.entry("ml_service_available", mlServiceAvailable),
                 Map.entry("translated_description", preResult.getOrDefault("translated_description", postResult.getOrDefault("translated_description", ""))),
                 Map.entry("pre_processing_flags", Map.of(
                         "spam", preResult.getOrDefault("is_spam", false),
@@ -393,47 +478,63 @@ public class CrimeReportService {
     }
 
     private void logMLResults(Map<String, Object> mlResult) {
-        logger.info("  - Is Spam: {}", mlResult.get("is_spam"));
-        logger.info("  - Is Hate Speech: {}", mlResult.get("is_hate_speech"));
-        logger.info("  - Is Toxic: {}", mlResult.get("is_toxic"));
-        logger.info("  - Urgency Level: {}", mlResult.get("urgency"));
-        logger.info("  - Overall Confidence: {}", mlResult.get("confidence"));
-        logger.info("  - Spam Score: {}", mlResult.get("spam_score"));
-        logger.info("  - Report Quality: {}", mlResult.get("report_quality"));
-        logger.info("  - Needs Manual Review: {}", mlResult.get("needs_review"));
-        logger.info("  - Word Count: {}", mlResult.get("word_count"));
-        logger.info("  - Character Count: {}", mlResult.get("char_count"));
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+        logger.debug("  - Is Spam: {}", mlResult.get("is_spam"));
+        logger.debug("  - Is Hate Speech: {}", mlResult.get("is_hate_speech"));
+        logger.debug("  - Is Toxic: {}", mlResult.get("is_toxic"));
+        logger.debug("  - Urgency Level: {}", mlResult.get("urgency"));
+        logger.debug("  - Overall Confidence: {}", mlResult.get("confidence"));
+        logger.debug("  - Spam Score: {}", mlResult.get("spam_score"));
+        logger.debug("  - Report Quality: {}", mlResult.get("report_quality"));
+        logger.debug("  - Needs Manual Review: {}", mlResult.get("needs_review"));
+        logger.debug("  - Word Count: {}", mlResult.get("word_count"));
+        logger.debug("  - Character Count: {}", mlResult.get("char_count"));
 
         Map<String, Object> toxicityAnalysis = (Map<String, Object>) mlResult.get("toxicity_analysis");
         if (toxicityAnalysis != null && !toxicityAnalysis.isEmpty()) {
-            logger.info("  - Toxicity Scores:");
+            logger.debug("  - Toxicity Scores:");
             toxicityAnalysis.forEach((key, value) ->
-                    logger.info("    * {}: {}", key, value));
+                    logger.debug("    * {}: {}", key, value));
         }
     }
 
     private void logReportDetails(CrimeReportRequest request, String original, String processed, Map<String, Object> mlResult) {
-        logger.info("=== CRIME REPORT DETAILS ===");
-        logger.info("Timestamp: {}", LocalDateTime.now());
-        logger.info("Category ID: {}", request.getCategoryId());
-        logger.info("Category Name: {}", request.getCategoryName());
-        logger.info("Crime Type: {}", request.getCrimeType());
-        logger.info("Original Description Length: {} chars", original.length());
-        logger.info("Processed Description Length: {} chars", processed.length());
-        logger.info("Location: {}", request.getPlace());
-        logger.info("State: {}", request.getState());
-        logger.info("District: {}", request.getDistrict());
-        logger.info("Police Station: {}", request.getPoliceStation());
-        logger.info("Files Attached: {}", request.getFiles() != null ? request.getFiles().size() : 0);
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+        logger.debug("=== CRIME REPORT DETAILS ===");
+        logger.debug("Timestamp: {}", LocalDateTime.now());
+        logger.debug("Category ID: {}", request.getCategoryId());
+        logger.debug("Category Name: {}", request.getCategoryName());
+        logger.debug("Crime Type: {}", request.getCrimeType());
+        logger.debug("Original Description Length: {} chars", original.length());
+        logger.debug("Processed Description Length: {} chars", processed.length());
+        logger.debug("Location: {}", request.getPlace());
+        logger.debug("State: {}", request.getState());
+        logger.debug("District: {}", request.getDistrict());
+        logger.debug("Police Station: {}", request.getPoliceStation());
+        logger.debug("Files Attached: {}", request.getFiles() != null ? request.getFiles().size() : 0);
 
         if (request.getFiles() != null && !request.getFiles().isEmpty()) {
-            logger.info("File Names: {}", String.join(", ", request.getFiles()));
+            logger.debug("File Names: {}", String.join(", ", request.getFiles()));
         }
 
-        logger.info("ML Urgency Assessment: {}", mlResult.get("urgency"));
-        logger.info("Requires Priority Handling: {}", "HIGH".equals(mlResult.get("urgency")) ||
+        logger.debug("ML Urgency Assessment: {}", mlResult.get("urgency"));
+        logger.debug("Requires Priority Handling: {}", "HIGH".equals(mlResult.get("urgency")) ||
                 Boolean.TRUE.equals(mlResult.get("needs_review")));
-        logger.info("=== END CRIME REPORT DETAILS ===");
+        logger.debug("=== END CRIME REPORT DETAILS ===");
+    }
+
+    // the report, its tracking ID and the evidence uploads it claims are written together, so a failed save
+    // leaves neither a reserved ID nor consumed uploads behind
+    private void saveNewReport(CrimeReport report, CrimeReportRequest request) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            crimeReportRepository.reserveId(report.getId());
+            crimeReportRepository.save(report);
+            evidenceUploadService.markConsumed(request.getUploadIds());
+        });
     }
 
     private String generateUniqueTrackingId() {
@@ -451,9 +552,9 @@ public class CrimeReportService {
                 break;
             }
 
-        } while (crimeReportRepository.existsById(trackingId));
+        } while (crimeReportRepository.isIdTaken(trackingId));
 
-        logger.info("Generated unique tracking ID: {} (attempts: {})", trackingId, attempts);
+        logger.debug("Generated unique tracking ID: {} (attempts: {})", trackingId, attempts);
         return trackingId;
     }
 
@@ -472,9 +573,9 @@ public class CrimeReportService {
                 break;
             }
 
-        } while (crimeReportRepository.existsById(rejectedId));
+        } while (crimeReportRepository.isIdTaken(rejectedId));
 
-        logger.info("Generated unique rejected ID: {} (attempts: {})", rejectedId, attempts);
+        logger.debug("Generated unique rejected ID: {} (attempts: {})", rejectedId, attempts);
         return rejectedId;
     }
 
@@ -482,7 +583,8 @@ public class CrimeReportService {
                                                       String original,
                                                       String processed,
                                                       Map<String, Object> mlResult,
-                                                      List<String> savedEvidenceFiles) {
+                                                      List<String> savedEvidenceFiles,
+                                                      String duplicateOf) {
         String reportId = generateUniqueTrackingId();
         String status = determineReportStatus(mlResult);
 
@@ -501,6 +603,8 @@ public class CrimeReportService {
         report.setAddress(request.getPlace());
         report.setCity(request.getDistrict());
         report.setState(request.getState());
+        report.setLatitude(request.getLatitude());
+        report.setLongitude(request.getLongitude());
         report.setPoliceStation(request.getPoliceStation());
         report.setCountry("India");
         report.setSubmittedAt(LocalDateTime.now());
@@ -523,29 +627,40 @@ public class CrimeReportService {
         report.setBlockchainTimestamp(null);
         report.setAdminStatus(CrimeReport.AdminStatus.PENDING);
         report.setPoliceStatus(CrimeReport.PoliceStatus.NOT_VIEWED);
+        report.setDuplicateOf(duplicateOf);
 
         try {
-            crimeReportRepository.save(report);
-            logger.info("Crime report saved to PostgreSQL with ID: {}", report.getId());
+            submissionMetrics.observe(SubmissionMetrics.Phase.PERSIST, () -> saveNewReport(report, request));
+            logger.debug("Crime report saved to PostgreSQL with ID: {}", report.getId());
+            reportStatsService.recordCreated(report);
         } catch (Exception e) {
+            submissionMetrics.error(SubmissionMetrics.Phase.PERSIST);
             logger.error("Failed to save crime report to PostgreSQL: {}", e.getMessage());
             return createErrorResponse("Failed to save report: " + e.getMessage());
         }
 
+        if (duplicateOf == null) {
+            duplicateReportIndex.register(reportId, report.getState(), report.getCity(), translatedDesc, report.getSubmittedAt());
+            heatmapService.recordReport(report);
+        }
+
         request.setTranslatedDescription(translatedDesc);
         request.setCrimeTypeId(report.getCrimeTypeId().intValue());
 
-        Map<String, Object> blockchainResult = blockchainService.sendReportToBlockchain(request, reportId);
+        submissionMetrics.observe(SubmissionMetrics.Phase.BLOCKCHAIN, () -> {
+            Map<String, Object> blockchainResult = blockchainService.sendReportToBlockchain(request, reportId);
 
-        if (blockchainResult.getOrDefault("success", false).equals(Boolean.TRUE)) {
-            report.setBlockchainHash((String) blockchainResult.get("hash"));
-            report.setBlockchainTxId((String) blockchainResult.get("txId"));
-            report.setBlockchainTimestamp(LocalDateTime.now());
-            crimeReportRepository.save(report);
-            logger.info("Blockchain info saved for report ID: {}", reportId);
-        } else {
-            logger.warn("Blockchain submission failed for report ID: {}", reportId);
-        }
+            if (blockchainResult.getOrDefault("success", false).equals(Boolean.TRUE)) {
+                report.setBlockchainHash((String) blockchainResult.get("hash"));
+                report.setBlockchainTxId((String) blockchainResult.get("txId"));
+                report.setBlockchainTimestamp(LocalDateTime.now());
+                crimeReportRepository.save(report);
+                logger.debug("Blockchain info saved for report ID: {}", reportId);
+            } else {
+                submissionMetrics.error(SubmissionMetrics.Phase.BLOCKCHAIN);
+                logger.warn("Blockchain submission failed for report ID: {}", reportId);
+            }
+        });
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
@@ -562,6 +677,76 @@ public class CrimeReportService {
         response.put("processingNotes", generateProcessingNotes(original, processed, mlResult));
         response.put("evidenceFilesCount", savedEvidenceFiles.size());
         response.put("evidenceFiles", savedEvidenceFiles);
+        if (duplicateOf != null) {
+            response.put("duplicateOf", duplicateOf);
+        }
+
+        return response;
+    }
+
+    private Map<String, Object> createDuplicateResponse(CrimeReportRequest request,
+                                                        String original,
+                                                        String translated,
+                                                        CrimeReport canonical,
+                                                        Map<String, Object> mlResult,
+                                                        List<String> savedEvidenceFiles) {
+        String reportId = generateUniqueTrackingId();
+
+        CrimeReport report = new CrimeReport();
+        report.setId(reportId);
+        report.setCrimeCategoryId((long) request.getCategoryId());
+        validateAndSetCrimeType(report, request);
+        report.setOriginalDescription(original);
+        report.setTranslatedDescription(translated);
+        report.setReadabilityEnhancedDescription(canonical.getReadabilityEnhancedDescription());
+
+        report.setAttachments(!savedEvidenceFiles.isEmpty() ? convertFilesToJson(savedEvidenceFiles) : null);
+
+        report.setAddress(request.getPlace());
+        report.setCity(request.getDistrict());
+        report.setState(request.getState());
+        report.setLatitude(request.getLatitude());
+        report.setLongitude(request.getLongitude());
+        report.setPoliceStation(request.getPoliceStation());
+        report.setCountry("India");
+        report.setSubmittedAt(LocalDateTime.now());
+        report.setSpam((Boolean) mlResult.getOrDefault("is_spam", false));
+        report.setToxic((Boolean) mlResult.getOrDefault("is_toxic", false));
+        report.setHateSpeech((Boolean) mlResult.getOrDefault("is_hate_speech", false));
+        report.setSpamScore((Double) mlResult.getOrDefault("spam_score", 0.0));
+        report.setToxicityScores(convertMapToJson((Map<String, Object>) mlResult.get("toxicity_analysis")));
+        report.setUrgencyLevel(canonical.getUrgencyLevel());
+        report.setConfidenceScore(canonical.getConfidenceScore());
+        report.setNeedsReview(true);
+        report.setReportQuality(canonical.getReportQuality());
+        report.setProcessingPhase(CrimeReport.ProcessingPhase.PRE_PROCESSING);
+        report.setStatus(CrimeReport.ReportStatus.ACCEPTED);
+        report.setAdminStatus(CrimeReport.AdminStatus.PENDING);
+        report.setPoliceStatus(CrimeReport.PoliceStatus.NOT_VIEWED);
+        report.setDuplicateOf(canonical.getId());
+
+        try {
+            submissionMetrics.observe(SubmissionMetrics.Phase.PERSIST, () -> saveNewReport(report, request));
+            logger.debug("Duplicate report {} linked to {}", reportId, canonical.getId());
+            reportStatsService.recordCreated(report);
+        } catch (Exception e) {
+            submissionMetrics.error(SubmissionMetrics.Phase.PERSIST);
+            logger.error("Failed to save duplicate report to PostgreSQL: {}", e.getMessage());
+            return createErrorResponse("Failed to save report: " + e.getMessage());
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Crime report linked to an existing report about the same incident");
+        response.put("reportId", reportId);
+        response.put("duplicateOf", canonical.getId());
+        response.put("timestamp", LocalDateTime.now().toString());
+        response.put("status", "PENDING_REVIEW");
+        response.put("originalDescription", original);
+        response.put("translatedDescription", translated);
+        response.put("requiresUrgentAttention", canonical.getUrgencyLevel() == CrimeReport.UrgencyLevel.HIGH);
+        response.put("evidenceFilesCount", savedEvidenceFiles.size());
+        response.put("evidenceFiles", savedEvidenceFiles);
 
         return response;
     }
@@ -581,6 +766,8 @@ public class CrimeReportService {
         report.setAddress(request.getPlace());
         report.setCity(request.getDistrict());
         report.setState(request.getState());
+        report.setLatitude(request.getLatitude());
+        report.setLongitude(request.getLongitude());
         report.setPoliceStation(request.getPoliceStation());
         report.setCountry("India");
         report.setSubmittedAt(LocalDateTime.now());
@@ -600,11 +787,13 @@ public class CrimeReportService {
         report.setStatus(CrimeReport.ReportStatus.REJECTED);
         report.setRejectionReason("SPAM_DETECTED_BY_GEMINI");
         report.setAdminStatus(CrimeReport.AdminStatus.PENDING);
+        submissionMetrics.rejected("gemini_processing", "gemini_spam");
         report.setPoliceStatus(CrimeReport.PoliceStatus.NOT_VIEWED);
 
         try {
-            crimeReportRepository.save(report);
-            logger.info("Spam report saved to PostgreSQL with ID: {}", report.getId());
+            saveNewReport(report, request);
+            logger.debug("Spam report saved to PostgreSQL with ID: {}", report.getId());
+            reportStatsService.recordCreated(report);
         } catch (Exception e) {
             logger.error("Failed to save spam report: {}", e.getMessage());
         }
@@ -631,6 +820,7 @@ public class CrimeReportService {
                                                        List<String> savedEvidenceFiles) {
         String reportId = generateUniqueRejectedId();
         String rejectionReason = determineRejectionReason(mlResult);
+        submissionMetrics.rejected(rejectionPhase.toLowerCase(), rejectionReasonTag(mlResult));
 
         CrimeReport report = new CrimeReport();
         report.setId(reportId);
@@ -647,6 +837,8 @@ public class CrimeReportService {
         report.setAddress(request.getPlace());
         report.setCity(request.getDistrict());
         report.setState(request.getState());
+        report.setLatitude(request.getLatitude());
+        report.setLongitude(request.getLongitude());
         report.setPoliceStation(request.getPoliceStation());
         report.setCountry("India");
         report.setSubmittedAt(LocalDateTime.now());
@@ -669,8 +861,9 @@ public class CrimeReportService {
         report.setPoliceStatus(CrimeReport.PoliceStatus.NOT_VIEWED);
 
         try {
-            crimeReportRepository.save(report);
-            logger.info("Rejected report saved to PostgreSQL with ID: {}", report.getId());
+            saveNewReport(report, request);
+            logger.debug("Rejected report saved to PostgreSQL with ID: {}", report.getId());
+            reportStatsService.recordCreated(report);
         } catch (Exception e) {
             logger.error("Failed to save rejected report: {}", e.getMessage());
         }
@@ -734,6 +927,18 @@ public class CrimeReportService {
         }
     }
 
+    private String rejectionReasonTag(Map<String, Object> mlResult) {
+        if (Boolean.TRUE.equals(mlResult.get("is_hate_speech"))) {
+            return "hate_speech";
+        } else if (Boolean.TRUE.equals(mlResult.get("is_toxic"))) {
+            return "toxic";
+        } else if (Boolean.TRUE.equals(mlResult.get("is_spam"))) {
+            return "spam";
+        } else {
+            return "quality";
+        }
+    }
+
     private java.util.List<String> generateImprovementSuggestions(Map<String, Object> mlResult) {
         java.util.List<String> suggestions = new java.util.ArrayList<>();
 
@@ -770,7 +975,9 @@ public class CrimeReportService {
             notes.append("Low confidence classification - may require manual review. ");
         }
 
-        if (Boolean.TRUE.equals(mlResult.get("needs_review"))) {
+        if (Boolean.FALSE.equals(mlResult.get("ml_service_available"))) {
+            notes.append("Automated classification was unavailable; queued for manual review. ");
+        } else if (Boolean.TRUE.equals(mlResult.get("needs_review"))) {
             notes.append("Flagged for manual review due to content analysis. ");
         }
 
@@ -825,12 +1032,15 @@ public class CrimeReportService {
             return false;
         }
 
-        logger.info("Crime report validation passed");
+        logger.debug("Crime report validation passed");
         return true;
     }
 
     private Map<String, Object> applyValidationOverrides(Map<String, Object> mlResult, String originalText, String processedText) {
-        if (isLikelyFalsePositive(mlResult, processedText)) {
+        KeywordMatcher.Result keywords = keywordService.match(processedText);
+        Map<String, Object> result = mlResult;
+
+        if (isLikelyFalsePositive(mlResult, keywords)) {
             Map<String, Object> correctedResult = new java.util.HashMap<>(mlResult);
 
             Double spamScore = (Double) mlResult.getOrDefault("spam_score", 0.0);
@@ -847,18 +1057,36 @@ public class CrimeReportService {
             }
 
             String currentQuality = (String) mlResult.getOrDefault("report_quality", "LOW");
-            if ("LOW".equals(currentQuality) && processedText.split("\\s+").length >= 8) {
+            if ("LOW".equals(currentQuality) && keywords.wordCount() >= 8) {
                 correctedResult.put("report_quality", "MEDIUM");
             }
 
-            logger.info("Applied validation overrides to reduce false positives");
-            return correctedResult;
+            logger.debug("Applied validation overrides to reduce false positives");
+            result = correctedResult;
         }
 
-        return mlResult;
+        return applyUrgencyBoost(result, keywords);
     }
 
-    private boolean isLikelyFalsePositive(Map<String, Object> mlResult, String description) {
+    private Map<String, Object> applyUrgencyBoost(Map<String, Object> mlResult, KeywordMatcher.Result keywords) {
+        int urgentHits = keywords.count(KeywordService.URGENT);
+        String urgency = (String) mlResult.getOrDefault("urgency", "LOW");
+        if (urgentHits < urgencyBoostMinHits || "HIGH".equals(urgency)) {
+            return mlResult;
+        }
+
+        String boosted = "LOW".equals(urgency) ? "MEDIUM" : "HIGH";
+        logger.debug("Boosting urgency {} -> {} for urgent terms {}", urgency, boosted, keywords.terms(KeywordService.URGENT));
+        Map<String, Object> boostedResult = new java.util.HashMap<>(mlResult);
+        boostedResult.put("urgency", boosted);
+        return boostedResult;
+    }
+
+    boolean isLikelyFalsePositive(Map<String, Object> mlResult, String description) {
+        return isLikelyFalsePositive(mlResult, keywordService.match(description));
+    }
+
+    private boolean isLikelyFalsePositive(Map<String, Object> mlResult, KeywordMatcher.Result keywords) {
         Boolean isSpam = (Boolean) mlResult.getOrDefault("is_spam", false);
         Boolean isHateSpeech = (Boolean) mlResult.getOrDefault("is_hate_speech", false);
         Double spamScore = (Double) mlResult.getOrDefault("spam_score", 0.0);
@@ -869,26 +1097,19 @@ public class CrimeReportService {
         Double toxicity = (Double) toxicityAnalysis.getOrDefault("toxicity", 0.0);
         Double hateSpeechScore = (Double) toxicityAnalysis.getOrDefault("hate_speech_score", 0.0);
 
-        String[] crimeWords = {"robbery", "theft", "assault", "murder", "gun", "knife", "attack", "violence",
-                "stolen", "burglary", "harassment", "threat", "emergency", "help", "police"};
-        String[] legitWords = {"report", "incident", "happened", "occurred", "witnessed", "location", "time", "date"};
-
-        String lowerDesc = description.toLowerCase();
-        long crimeCount = java.util.Arrays.stream(crimeWords).mapToLong(word ->
-                lowerDesc.contains(word) ? 1 : 0).sum();
-        long legitCount = java.util.Arrays.stream(legitWords).mapToLong(word ->
-                lowerDesc.contains(word) ? 1 : 0).sum();
+        int crimeCount = keywords.count(KeywordService.CRIME);
+        int legitCount = keywords.count(KeywordService.LEGIT);
 
-        boolean hasGoodStructure = description.split("\\s+").length >= 8 &&
+        boolean hasGoodStructure = keywords.wordCount() >= 8 &&
                 (crimeCount >= 1 || legitCount >= 1);
 
         if (isSpam && spamScore < 0.3 && hasGoodStructure) {
-            logger.info("Overriding spam classification - likely false positive due to crime content");
+            logger.debug("Overriding spam classification - likely false positive due to crime content");
             return true;
         }
 
         if (isHateSpeech && hateSpeechScore > 0.7 && toxicity < 0.2 && crimeCount >= 1) {
-            logger.info("Overriding hate speech classification - likely false positive due to crime vocabulary");
+            logger.debug("Overriding hate speech classification - likely false positive due to crime vocabulary");
             return true;
         }
 
@@ -896,7 +1117,7 @@ public class CrimeReportService {
     }
 
     public Map<String, Object> getReportStatus(String reportId) {
-        logger.info("Status requested for report ID: {}", reportId);
+        logger.debug("Status requested for report ID: {}", reportId);
 
         Optional<CrimeReport> optionalReport = crimeReportRepository.findById(reportId);
         if (!optionalReport.isPresent()) {
@@ -965,7 +1186,7 @@ public class CrimeReportService {
         }
     }
 
-    private String convertMapToJson(Map<String, Object> map) {
+    String convertMapToJson(Map<String, Object> map) {
         if (map == null || map.isEmpty()) return "{}";
         try {
             return objectMapper.writeValueAsString(map);
@@ -0,0 +1,48 @@
+package com.crimereport.xpose.services;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+@Component
+public class DependencyGuard {
+
+    public static final String ML = "ml";
+    public static final String GEMINI = "gemini";
+    public static final String BLOCKCHAIN = "blockchain";
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    public <T> T call(String dependency, Supplier<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(dependency);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(dependency);
+        return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+    }
+
+    /** Circuit breaker for a whole logical call, retries and hedges included. */
+    public <T> Mono<T> breaker(String dependency, Mono<T> call) {
+        return call.transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(dependency)));
+    }
+
+    /** Bulkhead permit for a single request on the wire; each retry or hedge takes its own. */
+    public <T> Mono<T> bulkhead(String dependency, Mono<T> request) {
+        return request.transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(dependency)));
+    }
+
+    public boolean isOpen(String dependency) {
+        CircuitBreaker.State state = circuitBreakerRegistry.circuitBreaker(dependency).getState();
+        return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+    }
+}
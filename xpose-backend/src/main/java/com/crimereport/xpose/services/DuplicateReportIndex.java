@@ -0,0 +1,227 @@
+package com.crimereport.xpose.services;
+
+import com.crimereport.xpose.dto.DuplicateCandidate;
+import com.crimereport.xpose.models.CrimeReport;
+import com.crimereport.xpose.repository.CrimeReportRepository;
+import com.crimereport.xpose.util.SimHash;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class DuplicateReportIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(DuplicateReportIndex.class);
+
+    // 8 bands of 8 bits: any two fingerprints within 7 bits share at least one band
+    private static final int BANDS = 8;
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    @Autowired
+    private CrimeReportRepository crimeReportRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.dedup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.dedup.short-circuit:false}")
+    private boolean shortCircuit;
+
+    @Value("${app.dedup.window-hours:48}")
+    private long windowHours;
+
+    @Value("${app.dedup.max-distance:7}")
+    private int maxDistance;
+
+    @Value("${app.dedup.min-words:8}")
+    private int minWords;
+
+    @Value("${app.dedup.max-per-district:5000}")
+    private int maxPerDistrict;
+
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+
+    private Counter matches;
+
+    @PostConstruct
+    public void initMetrics() {
+        if (maxDistance >= BANDS) {
+            logger.warn("app.dedup.max-distance={} exceeds what {} bands can guarantee; using {}", maxDistance, BANDS, BANDS - 1);
+            maxDistance = BANDS - 1;
+        }
+        matches = Counter.builder("xpose.dedup.matches")
+                .description("Submissions linked to an earlier report about the same incident")
+                .register(meterRegistry);
+        Gauge.builder("xpose.dedup.indexed", this, DuplicateReportIndex::size)
+                .description("Recent reports held in the near-duplicate index")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            partitions.clear();
+            LocalDateTime since = LocalDateTime.now().minusHours(windowHours);
+            int loaded = 0;
+            for (int page = 0; ; page++) {
+                List<DuplicateCandidate> candidates = crimeReportRepository.findDuplicateCandidatesSince(
+                        since, CrimeReport.ReportStatus.ACCEPTED, PageRequest.of(page, REBUILD_PAGE_SIZE));
+                for (DuplicateCandidate candidate : candidates) {
+                    register(candidate.getReportId(), candidate.getState(), candidate.getDistrict(),
+                            candidate.getTranslatedDescription(), candidate.getSubmittedAt());
+                }
+                loaded += candidates.size();
+                if (candidates.size() < REBUILD_PAGE_SIZE) {
+                    break;
+                }
+            }
+            logger.info("Rebuilt near-duplicate index from {} reports across {} districts", loaded, partitions.size());
+        } catch (Exception e) {
+            logger.error("Failed to rebuild near-duplicate index: {}", e.getMessage(), e);
+        }
+    }
+
+    public boolean isShortCircuit() {
+        return enabled && shortCircuit;
+    }
+
+    public Optional<Match> findDuplicate(String state, String district, String text) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        SimHash hash = SimHash.of(text);
+        if (hash.words() < minWords) {
+            return Optional.empty();
+        }
+        Partition partition = partitions.get(partitionKey(state, district));
+        if (partition == null) {
+            return Optional.empty();
+        }
+        Optional<Match> match = partition.closest(hash, LocalDateTime.now().minusHours(windowHours));
+        match.ifPresent(found -> matches.increment());
+        return match;
+    }
+
+    public void register(String reportId, String state, String district, String text, LocalDateTime submittedAt) {
+        if (!enabled || reportId == null) {
+            return;
+        }
+        SimHash hash = SimHash.of(text);
+        if (hash.words() < minWords) {
+            return;
+        }
+        partitions.computeIfAbsent(partitionKey(state, district), key -> new Partition())
+                .add(new Entry(reportId, hash, submittedAt != null ? submittedAt : LocalDateTime.now()),
+                        LocalDateTime.now().minusHours(windowHours));
+    }
+
+    public int size() {
+        return partitions.values().stream().mapToInt(Partition::size).sum();
+    }
+
+    private static String partitionKey(String state, String district) {
+        return normalize(state) + "|" + normalize(district);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public record Match(String reportId, int distance) {
+    }
+
+    private record Entry(String reportId, SimHash hash, LocalDateTime submittedAt) {
+    }
+
+    private class Partition {
+
+        private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+        private final List<Map<Integer, List<Entry>>> bands = new ArrayList<>(BANDS);
+
+        Partition() {
+            for (int band = 0; band < BANDS; band++) {
+                bands.add(new HashMap<>());
+            }
+        }
+
+        synchronized void add(Entry entry, LocalDateTime cutoff) {
+            evict(cutoff);
+            entries.addLast(entry);
+            for (int band = 0; band < BANDS; band++) {
+                bands.get(band).computeIfAbsent(entry.hash().band(band, BANDS), key -> new ArrayList<>(2)).add(entry);
+            }
+            while (entries.size() > maxPerDistrict) {
+                remove(entries.pollFirst());
+            }
+        }
+
+        synchronized Optional<Match> closest(SimHash hash, LocalDateTime cutoff) {
+            evict(cutoff);
+            Entry best = null;
+            int bestDistance = maxDistance + 1;
+            for (int band = 0; band < BANDS; band++) {
+                List<Entry> bucket = bands.get(band).get(hash.band(band, BANDS));
+                if (bucket == null) {
+                    continue;
+                }
+                for (Entry candidate : bucket) {
+                    int distance = hash.distance(candidate.hash());
+                    if (distance < bestDistance
+                            || (distance == bestDistance && best != null && candidate.submittedAt().isBefore(best.submittedAt()))) {
+                        best = candidate;
+                        bestDistance = distance;
+                    }
+                }
+            }
+            return best == null ? Optional.empty() : Optional.of(new Match(best.reportId(), bestDistance));
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        private void evict(LocalDateTime cutoff) {
+            while (!entries.isEmpty() && entries.peekFirst().submittedAt().isBefore(cutoff)) {
+                remove(entries.pollFirst());
+            }
+        }
+
+        private void remove(Entry entry) {
+            for (int band = 0; band < BANDS; band++) {
+                Map<Integer, List<Entry>> buckets = bands.get(band);
+                int key = entry.hash().band(band, BANDS);
+                List<Entry> bucket = buckets.get(key);
+                if (bucket != null) {
+                    bucket.remove(entry);
+                    if (bucket.isEmpty()) {
+                        buckets.remove(key);
+                    }
+                }
+            }
+        }
+    }
+}
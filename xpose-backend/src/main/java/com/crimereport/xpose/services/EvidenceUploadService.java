@@ -0,0 +1,288 @@
+package com.crimereport.xpose.services;
+
+import com.crimereport.xpose.models.EvidenceUpload;
+import com.crimereport.xpose.models.EvidenceUpload.UploadStatus;
+import com.crimereport.xpose.repository.EvidenceUploadRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class EvidenceUploadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EvidenceUploadService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private EvidenceUploadRepository evidenceUploadRepository;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Value("${app.evidence.upload.dir}")
+    private String evidenceUploadDir;
+
+    @Value("${app.evidence.upload.max-file-size-bytes:536870912}")
+    private long maxFileSizeBytes;
+
+    @Value("${app.evidence.upload.max-chunk-size-bytes:8388608}")
+    private long maxChunkSizeBytes;
+
+    @Value("${app.evidence.upload.max-files-per-report:10}")
+    private int maxFilesPerReport;
+
+    @Value("${app.evidence.upload.stale-after-hours:24}")
+    private long staleAfterHours;
+
+    @Transactional
+    public EvidenceUpload initiateUpload(String fileName, long totalSize, String sha256) throws IOException {
+        if (totalSize <= 0 || totalSize > maxFileSizeBytes) {
+            throw new IllegalArgumentException("File size must be between 1 and " + maxFileSizeBytes + " bytes");
+        }
+        if (sha256 != null && !sha256.isBlank() && !sha256.matches("[0-9a-fA-F]{64}")) {
+            throw new IllegalArgumentException("Invalid SHA-256 checksum");
+        }
+
+        EvidenceUpload upload = new EvidenceUpload();
+        upload.setId(UUID.randomUUID().toString());
+        upload.setOriginalFileName(sanitizeFileName(fileName));
+        upload.setTotalSize(totalSize);
+        upload.setExpectedSha256(sha256 == null || sha256.isBlank() ? null : sha256.toLowerCase());
+
+        Path partFile = getPartFile(upload.getId());
+        Files.createDirectories(partFile.getParent());
+        Files.deleteIfExists(partFile);
+        Files.createFile(partFile);
+
+        logger.info("Initiated evidence upload {} ({} bytes)", upload.getId(), totalSize);
+        return evidenceUploadRepository.save(upload);
+    }
+
+    public Optional<EvidenceUpload> getUpload(String uploadId) {
+        return evidenceUploadRepository.findById(uploadId);
+    }
+
+    /**
+     * Writes one chunk at {@code offset}. No transaction or row lock is held while the client streams;
+     * a file lock keeps concurrent requests for the same upload from interleaving, and the offset only
+     * advances through a conditional update once the bytes are on disk.
+     */
+    public EvidenceUpload appendChunk(String uploadId, long offset, String chunkSha256, InputStream body)
+            throws IOException {
+        EvidenceUpload upload = requireAppendable(uploadId, offset);
+
+        long limit = Math.min(maxChunkSizeBytes, upload.getTotalSize() - offset);
+        MessageDigest digest = newSha256();
+        long written = 0;
+
+        try (FileChannel channel = FileChannel.open(getPartFile(uploadId), StandardOpenOption.WRITE);
+             FileLock lock = tryLock(channel)) {
+            // re-checked under the lock, another chunk may have landed since the first check
+            requireAppendable(uploadId, offset);
+
+            if (channel.size() > offset) {
+                channel.truncate(offset);
+            }
+            channel.position(offset);
+
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                written += read;
+                if (written > limit) {
+                    channel.truncate(offset);
+                    throw new IllegalArgumentException("Chunk exceeds the allowed size of " + limit + " bytes");
+                }
+                digest.update(buffer, 0, read);
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    channel.write(chunk);
+                }
+            }
+
+            if (chunkSha256 != null && !chunkSha256.isBlank()
+                    && !HexFormat.of().formatHex(digest.digest()).equalsIgnoreCase(chunkSha256.trim())) {
+                channel.truncate(offset);
+                throw new IllegalArgumentException("Chunk checksum mismatch");
+            }
+            channel.force(false);
+
+            if (evidenceUploadRepository.advanceReceivedBytes(uploadId, offset, offset + written,
+                    UploadStatus.IN_PROGRESS, LocalDateTime.now()) == 0) {
+                // bytes past received_bytes are discarded by the next append at the right offset
+                throw new IllegalStateException("Offset mismatch");
+            }
+        }
+
+        logger.debug("Upload {} received {} bytes at offset {}", uploadId, written, offset);
+        return evidenceUploadRepository.findById(uploadId)
+                .orElseThrow(() -> new IllegalArgumentException("Upload not found"));
+    }
+
+    @Transactional
+    public EvidenceUpload completeUpload(String uploadId, String sha256) throws IOException {
+        EvidenceUpload upload = evidenceUploadRepository.findByIdForUpdate(uploadId)
+                .orElseThrow(() -> new IllegalArgumentException("Upload not found"));
+
+        if (upload.getStatus() != UploadStatus.IN_PROGRESS) {
+            return upload;
+        }
+        if (upload.getReceivedBytes() != upload.getTotalSize()) {
+            throw new IllegalStateException("Upload is incomplete");
+        }
+
+        String expected = sha256 != null && !sha256.isBlank() ? sha256.trim() : upload.getExpectedSha256();
+        Path partFile = getPartFile(uploadId);
+        if (expected != null && !sha256(partFile).equalsIgnoreCase(expected)) {
+            throw new IllegalArgumentException("File checksum mismatch");
+        }
+
+        upload.setStoredFileName(fileStorageService.storeEvidenceFile(partFile, upload.getOriginalFileName()));
+        upload.setStatus(UploadStatus.COMPLETED);
+        upload.setUpdatedAt(LocalDateTime.now());
+        logger.info("Completed evidence upload {} as {}", uploadId, upload.getStoredFileName());
+        return evidenceUploadRepository.save(upload);
+    }
+
+    /**
+     * Returns the stored file names for completed uploads without claiming them; the report save calls
+     * {@link #markConsumed} in its own transaction so the uploads are only used up once the report exists.
+     */
+    public List<String> resolveUploads(List<String> uploadIds) {
+        List<String> storedFiles = new ArrayList<>();
+        if (uploadIds == null || uploadIds.isEmpty()) {
+            return storedFiles;
+        }
+        List<String> distinctIds = uploadIds.stream().distinct().toList();
+        if (distinctIds.size() > maxFilesPerReport) {
+            throw new IllegalArgumentException("Too many evidence uploads (max " + maxFilesPerReport + ")");
+        }
+
+        for (String uploadId : distinctIds) {
+            EvidenceUpload upload = evidenceUploadRepository.findById(uploadId)
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown evidence upload: " + uploadId));
+            if (upload.getStatus() == UploadStatus.CONSUMED) {
+                throw new IllegalArgumentException("Evidence upload is already attached to a report: " + uploadId);
+            }
+            if (upload.getStatus() != UploadStatus.COMPLETED) {
+                throw new IllegalArgumentException("Evidence upload is not complete: " + uploadId);
+            }
+            storedFiles.add(upload.getStoredFileName());
+        }
+        return storedFiles;
+    }
+
+    /** Claims the uploads for the report being saved in the caller's transaction. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markConsumed(List<String> uploadIds) {
+        if (uploadIds == null || uploadIds.isEmpty()) {
+            return;
+        }
+        List<String> distinctIds = uploadIds.stream().distinct().toList();
+        int consumed = evidenceUploadRepository.updateStatusWhere(distinctIds, UploadStatus.COMPLETED,
+                UploadStatus.CONSUMED, LocalDateTime.now());
+        if (consumed != distinctIds.size()) {
+            throw new IllegalStateException("Evidence uploads were attached to another report");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.evidence.upload.cleanup-interval-ms:3600000}")
+    @Transactional
+    public void removeStaleUploads() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(staleAfterHours);
+        List<EvidenceUpload> stale = evidenceUploadRepository.findByStatusAndUpdatedAtBefore(UploadStatus.IN_PROGRESS, cutoff);
+        for (EvidenceUpload upload : stale) {
+            try {
+                Files.deleteIfExists(getPartFile(upload.getId()));
+            } catch (IOException e) {
+                logger.warn("Failed to delete partial upload {}: {}", upload.getId(), e.getMessage());
+            }
+        }
+        evidenceUploadRepository.deleteAll(stale);
+        if (!stale.isEmpty()) {
+            logger.info("Removed {} stale evidence uploads", stale.size());
+        }
+    }
+
+    private EvidenceUpload requireAppendable(String uploadId, long offset) {
+        EvidenceUpload upload = evidenceUploadRepository.findById(uploadId)
+                .orElseThrow(() -> new IllegalArgumentException("Upload not found"));
+        if (upload.getStatus() != UploadStatus.IN_PROGRESS) {
+            throw new IllegalStateException("Upload is already complete");
+        }
+        if (offset != upload.getReceivedBytes()) {
+            throw new IllegalStateException("Offset mismatch");
+        }
+        return upload;
+    }
+
+    private FileLock tryLock(FileChannel channel) throws IOException {
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            throw new IllegalStateException("Another chunk is being written to this upload");
+        }
+        return lock;
+    }
+
+    private Path getPartFile(String uploadId) {
+        return Paths.get(evidenceUploadDir, ".partial", uploadId + ".part");
+    }
+
+    private String sanitizeFileName(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            return null;
+        }
+        Path name = Paths.get(fileName.replace('\\', '/')).getFileName();
+        return name == null ? null : name.toString();
+    }
+
+    private String sha256(Path file) throws IOException {
+        MessageDigest digest = newSha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
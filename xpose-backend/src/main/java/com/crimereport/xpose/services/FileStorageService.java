@@ -1,41 +1,71 @@
 package com.crimereport.xpose.services;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.crimereport.xpose.storage.BlobStore;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStream;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.UUID;
 
 @Service
 public class FileStorageService {
 
-    @Value("${app.evidence.upload.dir}")
-    private String evidenceUploadDir;
+    @Autowired
+    private BlobStore blobStore;
 
-    public String storeEvidenceFile(MultipartFile file) throws IOException {
+    @Autowired
+    private MediaDerivativeService mediaDerivativeService;
 
-        Path evidenceDir = Paths.get(evidenceUploadDir);
-        if (!Files.exists(evidenceDir)) {
-            Files.createDirectories(evidenceDir);
-        }
+    public String storeEvidenceFile(MultipartFile file) throws IOException {
+        String uniqueFileName = newEvidenceFileName(file.getOriginalFilename());
+        store(BlobStore.EVIDENCE, uniqueFileName, file);
+        return uniqueFileName;
+    }
 
+    public String storeEvidenceFile(Path source, String originalFileName) throws IOException {
+        String uniqueFileName = newEvidenceFileName(originalFileName);
+        blobStore.put(BlobStore.EVIDENCE, uniqueFileName, source);
+        mediaDerivativeService.scheduleDerivatives(BlobStore.EVIDENCE, uniqueFileName);
+        return uniqueFileName;
+    }
 
-        String originalFileName = file.getOriginalFilename();
-        String fileExtension = "";
-        if (originalFileName != null && originalFileName.contains(".")) {
-            fileExtension = originalFileName.substring(originalFileName.lastIndexOf("."));
-        }
+    public String storePoliceProof(MultipartFile file) throws IOException {
+        String fileName = UUID.randomUUID() + "_" + sanitizeFileName(file.getOriginalFilename());
+        store(BlobStore.POLICE_PROOFS, fileName, file);
+        return fileName;
+    }
 
-        String uniqueFileName = UUID.randomUUID().toString() + fileExtension;
-        Path filePath = evidenceDir.resolve(uniqueFileName);
+    public String storeProfileImage(MultipartFile file) throws IOException {
+        String fileName = UUID.randomUUID() + "_" + sanitizeFileName(file.getOriginalFilename());
+        store(BlobStore.PROFILES, fileName, file);
+        return fileName;
+    }
 
+    private void store(String namespace, String key, MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            blobStore.put(namespace, key, in, file.getSize(), null);
+        }
+        mediaDerivativeService.scheduleDerivatives(namespace, key);
+    }
 
-        Files.copy(file.getInputStream(), filePath);
+    private String newEvidenceFileName(String originalFileName) {
+        String fileExtension = "";
+        String name = sanitizeFileName(originalFileName);
+        if (name.contains(".")) {
+            fileExtension = name.substring(name.lastIndexOf("."));
+        }
+        return UUID.randomUUID().toString() + fileExtension;
+    }
 
-        return uniqueFileName;
+    private String sanitizeFileName(String originalFileName) {
+        if (originalFileName == null || originalFileName.isBlank()) {
+            return "file";
+        }
+        String name = originalFileName.replace('\\', '/');
+        String cleaned = name.substring(name.lastIndexOf('/') + 1).replaceAll("\\p{Cntrl}", "");
+        return cleaned.isBlank() || cleaned.startsWith(".") ? "file" + cleaned : cleaned;
     }
-}
\ No newline at end of file
+}
@@ -1,165 +1,302 @@
 package com.crimereport.xpose.services;
 
+import com.crimereport.xpose.config.OutboundHttpClientFactory;
+import com.crimereport.xpose.dto.GeminiEnrichment;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class GeminiService {
 
     private static final Logger logger = LoggerFactory.getLogger(GeminiService.class);
 
+    private static final String MODEL = "gemini-2.5-flash";
+
+    private static final Map<String, Object> ENRICHMENT_SCHEMA = Map.of(
+            "type", "OBJECT",
+            "properties", Map.of(
+                    "language", Map.of("type", "STRING"),
+                    "is_english", Map.of("type", "BOOLEAN"),
+                    "english_text", Map.of("type", "STRING"),
+                    "readable_text", Map.of("type", "STRING")
+            ),
+            "required", List.of("language", "is_english", "english_text", "readable_text")
+    );
+
     private final WebClient webClient;
     private final String apiKey;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Mono<String>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    private DependencyGuard dependencyGuard;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.gemini.attempt-timeout-ms:8000}")
+    private long attemptTimeoutMs;
+
+    @Value("${app.gemini.total-timeout-ms:20000}")
+    private long totalTimeoutMs;
+
+    @Value("${app.gemini.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${app.gemini.retry-backoff-ms:200}")
+    private long retryBackoffMs;
+
+    @Value("${app.gemini.hedge-delay-ms:0}")
+    private long hedgeDelayMs;
+
+    private Counter requestCounter;
+    private Counter coalescedCounter;
+    private Counter enrichmentFallbackCounter;
+    private Counter hedgeCounter;
 
-    public GeminiService(@Value("${gemini.api.key}") String apiKey) {
+    public GeminiService(@Value("${gemini.api.key}") String apiKey,
+                         @Value("${app.gemini.base-url:https://generativelanguage.googleapis.com/v1beta}") String baseUrl,
+                         OutboundHttpClientFactory httpClientFactory) {
         this.apiKey = apiKey;
-        this.webClient = WebClient.builder()
-                .baseUrl("https://generativelanguage.googleapis.com/v1beta")
+        this.webClient = httpClientFactory.webClientBuilder(OutboundHttpClientFactory.GEMINI)
+                .baseUrl(baseUrl)
                 .defaultHeader("Content-Type", "application/json")
                 .build();
     }
 
+    @PostConstruct
+    public void initMetrics() {
+        requestCounter = meterRegistry.counter("xpose.gemini.requests");
+        coalescedCounter = meterRegistry.counter("xpose.gemini.coalesced");
+        enrichmentFallbackCounter = meterRegistry.counter("xpose.gemini.enrichment.fallback");
+        hedgeCounter = meterRegistry.counter("xpose.gemini.hedged");
+    }
+
     @Deprecated
     public String processAndCleanText(String text) {
-        try {
-            logger.info("Processing text with Gemini (DEPRECATED): {}", text.substring(0, Math.min(50, text.length())));
-
-            String model = "gemini-2.5-flash";
-            String prompt = buildComprehensivePrompt(text);
-
-            Map<String, Object> requestBody = Map.of(
-                    "contents", List.of(Map.of("parts", List.of(Map.of("text", prompt)))),
-                    "generationConfig", Map.of("temperature", 0.1, "maxOutputTokens", 1024)
-            );
-
-            Map response = webClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/models/" + model + ":generateContent")
-                            .queryParam("key", apiKey)
-                            .build())
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            String result = extractTextFromGeminiResponse(response);
-            if (result != null) {
-                logger.info("Gemini processed result: {}", result.substring(0, Math.min(100, result.length())));
-                return result.trim();
-            }
-        } catch (Exception e) {
-            logger.error("Error processing text with Gemini: {}", e.getMessage(), e);
-        }
-        return text;
+        return processAndCleanTextMono(text).block();
+    }
+
+    @Deprecated
+    public Mono<String> processAndCleanTextMono(String text) {
+        logger.debug("Processing text with Gemini (DEPRECATED): {}", text.substring(0, Math.min(50, text.length())));
+        return generateContent(buildComprehensivePrompt(text), 0.1, 1024)
+                .doOnNext(result -> logger.debug("Gemini processed result: {}", result.substring(0, Math.min(100, result.length()))))
+                .map(String::trim)
+                .onErrorResume(e -> fallback("Error processing text with Gemini", e, text))
+                .defaultIfEmpty(text);
     }
 
     public String improveReadabilityOnly(String text) {
-        try {
-            logger.info("Improving readability with Gemini: {}", text.substring(0, Math.min(50, text.length())));
-
-            String model = "gemini-2.5-flash";
-            String prompt = buildReadabilityOnlyPrompt(text);
-
-            Map<String, Object> requestBody = Map.of(
-                    "contents", List.of(Map.of("parts", List.of(Map.of("text", prompt)))),
-                    "generationConfig", Map.of("temperature", 0.1, "maxOutputTokens", 1024)
-            );
-
-            Map response = webClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/models/" + model + ":generateContent")
-                            .queryParam("key", apiKey)
-                            .build())
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            String result = extractTextFromGeminiResponse(response);
-            if (result != null) {
-                logger.info("Readability improved result: {}", result.substring(0, Math.min(100, result.length())));
-                return result.trim();
-            }
-        } catch (Exception e) {
-            logger.error("Error improving readability with Gemini: {}", e.getMessage(), e);
-        }
-        return text;
+        return improveReadabilityOnlyMono(text).block();
+    }
+
+    public Mono<String> improveReadabilityOnlyMono(String text) {
+        logger.debug("Improving readability with Gemini: {}", text.substring(0, Math.min(50, text.length())));
+        return generateContent(buildReadabilityOnlyPrompt(text), 0.1, 1024)
+                .doOnNext(result -> logger.debug("Readability improved result: {}", result.substring(0, Math.min(100, result.length()))))
+                .map(String::trim)
+                .onErrorResume(e -> fallback("Error improving readability with Gemini", e, text))
+                .defaultIfEmpty(text);
     }
 
     public String translateToEnglish(String text) {
-        try {
-            logger.info("Force translating text to English: {}", text.substring(0, Math.min(50, text.length())));
-
-            String model = "gemini-2.5-flash";
-            String prompt = "Translate this text to English. Preserve the original tone, emotion, and intent. Only return the translated text, nothing else:\n\n" + text;
-
-            Map<String, Object> requestBody = Map.of(
-                    "contents", List.of(Map.of("parts", List.of(Map.of("text", prompt)))),
-                    "generationConfig", Map.of("temperature", 0.1, "maxOutputTokens", 512)
-            );
-
-            Map response = webClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/models/" + model + ":generateContent")
-                            .queryParam("key", apiKey)
-                            .build())
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            String result = extractTextFromGeminiResponse(response);
-            if (result != null) {
-                logger.info("Translation result: {}", result.substring(0, Math.min(100, result.length())));
-                return result.trim();
-            }
-        } catch (Exception e) {
-            logger.error("Error translating text: {}", e.getMessage(), e);
-        }
-        return text;
+        return translateToEnglishMono(text).block();
+    }
+
+    public Mono<String> translateToEnglishMono(String text) {
+        logger.debug("Force translating text to English: {}", text.substring(0, Math.min(50, text.length())));
+        String prompt = "Translate this text to English. Preserve the original tone, emotion, and intent. Only return the translated text, nothing else:\n\n" + text;
+        return generateContent(prompt, 0.1, 512)
+                .doOnNext(result -> logger.debug("Translation result: {}", result.substring(0, Math.min(100, result.length()))))
+                .map(String::trim)
+                .onErrorResume(e -> fallback("Error translating text", e, text))
+                .defaultIfEmpty(text);
     }
 
     public CompletableFuture<String> processTextAsync(String text) {
-        return CompletableFuture.supplyAsync(() -> improveReadabilityOnly(text));
+        return improveReadabilityOnlyMono(text).toFuture();
     }
 
     public boolean isTextInEnglish(String text) {
+        return Boolean.TRUE.equals(isTextInEnglishMono(text).block());
+    }
+
+    public Mono<Boolean> isTextInEnglishMono(String text) {
+        String prompt = "Is this text primarily in English? Answer only 'YES' or 'NO'. Consider mixed language as 'NO':\n\n" + text;
+        return generateContent(prompt, 0.0, 10)
+                .map(result -> {
+                    boolean isEnglish = result.trim().toUpperCase().contains("YES");
+                    logger.debug("Language detection result: {} -> {}", result.trim(), isEnglish ? "English" : "Non-English");
+                    return isEnglish;
+                })
+                .onErrorResume(e -> fallback("Error checking language", e, isProbablyEnglish(text)))
+                .switchIfEmpty(Mono.fromSupplier(() -> isProbablyEnglish(text)));
+    }
+
+    public Mono<GeminiEnrichment> enrichMono(String text) {
+        Map<String, Object> generationConfig = Map.of(
+                "temperature", 0.1,
+                "maxOutputTokens", 2048,
+                "responseMimeType", "application/json",
+                "responseSchema", ENRICHMENT_SCHEMA
+        );
+        return generateContent(buildEnrichmentPrompt(text), generationConfig)
+                .mapNotNull(json -> parseEnrichment(json, text))
+                // only an unusable reply is retried as separate calls; transport errors, timeouts and an open
+                // breaker have already used up their retries and would fail the same way three more times
+                .switchIfEmpty(Mono.defer(() -> {
+                    enrichmentFallbackCounter.increment();
+                    return enrichSeparately(text);
+                }))
+                .onErrorResume(e -> fallback("Combined Gemini enrichment failed", e, degradedEnrichment(text)));
+    }
+
+    // what the separate calls produce when Gemini is unavailable: the original text, unmodified
+    private GeminiEnrichment degradedEnrichment(String text) {
+        boolean isEnglish = isProbablyEnglish(text);
+        return new GeminiEnrichment(isEnglish ? "English" : null, isEnglish, text, text);
+    }
+
+    private Mono<GeminiEnrichment> enrichSeparately(String text) {
+        return isTextInEnglishMono(text).flatMap(isEnglish -> {
+            Mono<String> englishText = isEnglish ? Mono.just(text) : translateToEnglishMono(text);
+            return englishText.flatMap(english -> improveReadabilityOnlyMono(english)
+                    .map(readable -> new GeminiEnrichment(isEnglish ? "English" : null, isEnglish, english, readable)));
+        });
+    }
+
+    private GeminiEnrichment parseEnrichment(String json, String original) {
+        String body = json.trim();
+        if (body.startsWith("```")) {
+            body = body.substring(body.indexOf('\n') + 1, body.lastIndexOf("```")).trim();
+        }
         try {
-            String model = "gemini-2.5-flash";
-            String prompt = "Is this text primarily in English? Answer only 'YES' or 'NO'. Consider mixed language as 'NO':\n\n" + text;
-
-            Map<String, Object> requestBody = Map.of(
-                    "contents", List.of(Map.of("parts", List.of(Map.of("text", prompt)))),
-                    "generationConfig", Map.of("temperature", 0.0, "maxOutputTokens", 10)
-            );
-
-            Map response = webClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/models/" + model + ":generateContent")
-                            .queryParam("key", apiKey)
-                            .build())
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            String result = extractTextFromGeminiResponse(response);
-            if (result != null) {
-                boolean isEnglish = result.trim().toUpperCase().contains("YES");
-                logger.info("Language detection result: {} -> {}", result.trim(), isEnglish ? "English" : "Non-English");
-                return isEnglish;
+            GeminiEnrichment enrichment = objectMapper.readValue(body, GeminiEnrichment.class);
+            if (enrichment.isEnglish() && isBlank(enrichment.getEnglishText())) {
+                enrichment.setEnglishText(original);
             }
+            if (isBlank(enrichment.getEnglishText()) || isBlank(enrichment.getReadableText())) {
+                logger.warn("Combined Gemini enrichment returned incomplete fields");
+                return null;
+            }
+            enrichment.setEnglishText(enrichment.getEnglishText().trim());
+            enrichment.setReadableText(enrichment.getReadableText().trim());
+            logger.debug("Enrichment result: language={} english={}", enrichment.getLanguage(), enrichment.isEnglish());
+            return enrichment;
         } catch (Exception e) {
-            logger.error("Error checking language: {}", e.getMessage(), e);
+            logger.warn("Could not parse combined Gemini enrichment: {}", e.getMessage());
+            return null;
         }
-        return isProbablyEnglish(text);
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private Mono<String> generateContent(String prompt, double temperature, int maxOutputTokens) {
+        return generateContent(prompt, Map.of("temperature", temperature, "maxOutputTokens", maxOutputTokens));
+    }
+
+    private Mono<String> generateContent(String prompt, Map<String, Object> generationConfig) {
+        String key = generationConfig + "\n" + prompt;
+        return Mono.deferContextual(context -> {
+            boolean[] created = {false};
+            Mono<String> shared = inFlight.computeIfAbsent(key, k -> {
+                created[0] = true;
+                // ref-counted: the request is cancelled as soon as the last waiter cancels
+                AtomicReference<Mono<String>> self = new AtomicReference<>();
+                Mono<String> call = callGemini(prompt, generationConfig)
+                        .contextWrite(context)
+                        .doFinally(signal -> inFlight.remove(k, self.get()))
+                        .flux()
+                        .publish()
+                        .refCount(1)
+                        .singleOrEmpty();
+                self.set(call);
+                return call;
+            });
+            if (!created[0]) {
+                coalescedCounter.increment();
+            }
+            return shared;
+        });
+    }
+
+    private Mono<String> callGemini(String prompt, Map<String, Object> generationConfig) {
+        Map<String, Object> requestBody = Map.of(
+                "contents", List.of(Map.of("parts", List.of(Map.of("text", prompt)))),
+                "generationConfig", generationConfig
+        );
+
+        Mono<String> attempt = Mono.defer(() -> {
+                    requestCounter.increment();
+                    return webClient.post()
+                            .uri(uriBuilder -> uriBuilder
+                                    .path("/models/" + MODEL + ":generateContent")
+                                    .queryParam("key", apiKey)
+                                    .build())
+                            .bodyValue(requestBody)
+                            .retrieve()
+                            .bodyToMono(Map.class);
+                })
+                .timeout(Duration.ofMillis(attemptTimeoutMs))
+                .mapNotNull(this::extractTextFromGeminiResponse)
+                .transformDeferred(request -> dependencyGuard.bulkhead(DependencyGuard.GEMINI, request));
+
+        if (hedgeDelayMs > 0) {
+            Mono<String> primary = attempt;
+            // a hedge that fails or finds the bulkhead full drops out; the primary request decides the outcome
+            Mono<String> hedge = Mono.delay(Duration.ofMillis(hedgeDelayMs))
+                    .then(primary.doOnSubscribe(subscription -> hedgeCounter.increment()))
+                    .onErrorResume(e -> Mono.never());
+            attempt = Mono.firstWithSignal(primary, hedge);
+        }
+
+        return attempt
+                .retryWhen(Retry.backoff(maxRetries, Duration.ofMillis(retryBackoffMs))
+                        .jitter(0.5)
+                        .filter(this::isRetryable))
+                .transformDeferred(call -> dependencyGuard.breaker(DependencyGuard.GEMINI, call))
+                .timeout(Duration.ofMillis(totalTimeoutMs));
+    }
+
+    private boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().value() == 429 || response.getStatusCode().is5xxServerError();
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
+    private <T> Mono<T> fallback(String message, Throwable e, T value) {
+        if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException) {
+            logger.debug("Skipping Gemini call: {}", e.getMessage());
+        } else {
+            logger.error("{}: {}", message, e.getMessage());
+        }
+        return Mono.just(value);
     }
 
     @SuppressWarnings("unchecked")
@@ -220,6 +357,26 @@ public class GeminiService {
                 Return only the improved text or "SPAM_DETECTED":""";
     }
 
+    private String buildEnrichmentPrompt(String text) {
+        return """
+                You are preparing a crime report for review. Return a JSON object with these fields:
+
+                - language: the primary language of the original text (e.g. "English", "Hindi")
+                - is_english: true only if the text is primarily English; mixed language counts as false
+                - english_text: the original text translated to English preserving tone, emotion and intent,
+                  or the original text unchanged if it is already English
+                - readable_text: english_text with spelling, grammar and sentence structure fixed
+
+                Rules for readable_text:
+                1. PRESERVE all original content, meaning, tone and emotion
+                2. Do NOT remove, filter, or sanitize any content, including complaints, anger or harsh words
+                3. Do NOT add information that wasn't in the original
+                4. Do NOT judge whether content is appropriate
+
+                Original text:
+                """ + text;
+    }
+
     private String buildReadabilityOnlyPrompt(String text) {
         return """
                 Improve the readability and grammar of this crime report while preserving ALL original content and meaning:
@@ -265,34 +422,16 @@ public class GeminiService {
     }
 
     public String detectLanguage(String text) {
-        try {
-            logger.info("Detecting language for text: {}", text.substring(0, Math.min(50, text.length())));
-            String model = "gemini-2.5-flash";
-            String prompt = "Detect the primary language of this text and return only the language name (e.g., 'English', 'Hindi', 'Spanish'): \n\n" + text;
-
-            Map<String, Object> requestBody = Map.of(
-                    "contents", List.of(Map.of("parts", List.of(Map.of("text", prompt)))),
-                    "generationConfig", Map.of("temperature", 0.0, "maxOutputTokens", 10)
-            );
-
-            Map response = webClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/models/" + model + ":generateContent")
-                            .queryParam("key", apiKey)
-                            .build())
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            String result = extractTextFromGeminiResponse(response);
-            if (result != null) {
-                logger.info("Detected language: {}", result.trim());
-                return result.trim();
-            }
-        } catch (Exception e) {
-            logger.error("Error detecting language: {}", e.getMessage(), e);
-        }
-        return "Unknown";
+        return detectLanguageMono(text).block();
+    }
+
+    public Mono<String> detectLanguageMono(String text) {
+        logger.debug("Detecting language for text: {}", text.substring(0, Math.min(50, text.length())));
+        String prompt = "Detect the primary language of this text and return only the language name (e.g., 'English', 'Hindi', 'Spanish'): \n\n" + text;
+        return generateContent(prompt, 0.0, 10)
+                .doOnNext(result -> logger.debug("Detected language: {}", result.trim()))
+                .map(String::trim)
+                .onErrorResume(e -> fallback("Error detecting language", e, "Unknown"))
+                .defaultIfEmpty("Unknown");
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.crimereport.xpose.services;
 
+import com.crimereport.xpose.config.OutboundHttpClientFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,7 +18,14 @@ public class GeocodingService {
     @Value("${placesapi.key}")
     private String placesApiKey;
 
-    private final String GEOCODING_BASE_URL = "https://maps.googleapis.com/maps/api/geocode/json";
+    @Value("${app.google.maps-base-url:https://maps.googleapis.com/maps/api}")
+    private String mapsBaseUrl;
+
+    private final RestTemplate restTemplate;
+
+    public GeocodingService(OutboundHttpClientFactory httpClientFactory) {
+        this.restTemplate = httpClientFactory.restTemplate(OutboundHttpClientFactory.GOOGLE_MAPS);
+    }
 
     public static class Coordinates {
         public Double latitude;
@@ -37,12 +45,11 @@ public class GeocodingService {
 
         logger.info("Fetching coordinates for address: {}", address);
 
-        String uri = UriComponentsBuilder.fromHttpUrl(GEOCODING_BASE_URL)
+        String uri = UriComponentsBuilder.fromHttpUrl(mapsBaseUrl + "/geocode/json")
                 .queryParam("address", address)
                 .queryParam("key", placesApiKey)
                 .toUriString();
 
-        RestTemplate restTemplate = new RestTemplate();
         Map<String, Object> response = restTemplate.getForObject(uri, Map.class);
 
         if (response != null && "OK".equals(response.get("status"))) {
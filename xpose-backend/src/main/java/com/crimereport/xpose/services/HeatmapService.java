@@ -0,0 +1,219 @@
+package com.crimereport.xpose.services;
+
+import com.crimereport.xpose.models.CrimeReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class HeatmapService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HeatmapService.class);
+
+    public static final int MIN_ZOOM = 4;
+    public static final int MAX_ZOOM = 15;
+    // each tile is split into 32x32 bins, i.e. cells are stored at zoom + 5
+    public static final int GRID_BITS = 5;
+
+    private static final double MAX_LATITUDE = 85.05112878;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO report_heat_cells (zoom, cell_x, cell_y, day, crime_category_id, report_count)
+            VALUES (?, ?, ?, ?, ?, 1)
+            ON CONFLICT (zoom, cell_x, cell_y, day, crime_category_id)
+            DO UPDATE SET report_count = report_heat_cells.report_count + 1
+            """;
+
+    private static final String BACKFILL_SQL = """
+            INSERT INTO report_heat_cells (zoom, cell_x, cell_y, day, crime_category_id, report_count)
+            SELECT z.level,
+                   LEAST(GREATEST(FLOOR((r.lng + 180) / 360 * (1 << z.level)), 0), (1 << z.level) - 1)::int,
+                   LEAST(GREATEST(FLOOR((1 - LN(TAN(RADIANS(r.lat)) + 1 / COS(RADIANS(r.lat))) / PI()) / 2 * (1 << z.level)), 0), (1 << z.level) - 1)::int,
+                   r.day, r.crime_category_id, COUNT(*)
+            FROM (
+                SELECT LEAST(GREATEST(latitude, -85.05112878), 85.05112878) AS lat, longitude AS lng,
+                       CAST(submitted_at AS DATE) AS day, crime_category_id
+                FROM crime_reports
+                WHERE latitude IS NOT NULL AND longitude IS NOT NULL
+                  AND status = 'ACCEPTED' AND duplicate_of IS NULL
+            ) r
+            CROSS JOIN generate_series(?, ?) AS z(level)
+            GROUP BY 1, 2, 3, 4, 5
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.heatmap.etag-ttl-seconds:60}")
+    private long etagTtlSeconds;
+
+    @Value("${app.heatmap.cache-max-entries:2000}")
+    private int cacheMaxEntries;
+
+    private final Map<Long, Long> tileVersions = new ConcurrentHashMap<>();
+    private final Map<String, CachedTile> cache = new ConcurrentHashMap<>();
+    private volatile long generation = System.currentTimeMillis();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCells() {
+        try {
+            Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM report_heat_cells", Long.class);
+            if (existing != null && existing == 0) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            logger.error("Failed to backfill heatmap cells: {}", e.getMessage(), e);
+        }
+    }
+
+    @Transactional
+    public int rebuild() {
+        jdbcTemplate.update("DELETE FROM report_heat_cells");
+        int rows = jdbcTemplate.update(BACKFILL_SQL, MIN_ZOOM + GRID_BITS, MAX_ZOOM + GRID_BITS);
+        tileVersions.clear();
+        cache.clear();
+        generation = System.currentTimeMillis();
+        logger.info("Rebuilt heatmap cells ({} rows)", rows);
+        return rows;
+    }
+
+    public void recordReport(CrimeReport report) {
+        if (report.getLatitude() == null || report.getLongitude() == null || report.getSubmittedAt() == null) {
+            return;
+        }
+        Date day = Date.valueOf(report.getSubmittedAt().toLocalDate());
+        List<Object[]> args = new ArrayList<>(MAX_ZOOM - MIN_ZOOM + 1);
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            int level = zoom + GRID_BITS;
+            int cellX = tileX(report.getLongitude(), level);
+            int cellY = tileY(report.getLatitude(), level);
+            args.add(new Object[]{level, cellX, cellY, day, report.getCrimeCategoryId()});
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+            for (Object[] cell : args) {
+                int zoom = (Integer) cell[0] - GRID_BITS;
+                tileVersions.merge(tileKey(zoom, (Integer) cell[1] >> GRID_BITS, (Integer) cell[2] >> GRID_BITS), 1L, Long::sum);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to update heatmap cells for report {}: {}", report.getId(), e.getMessage(), e);
+        }
+    }
+
+    public String etag(int zoom, int x, int y, LocalDate from, LocalDate to, List<Long> categoryIds) {
+        long version = tileVersions.getOrDefault(tileKey(zoom, x, y), 0L);
+        long slot = etagTtlSeconds > 0 ? System.currentTimeMillis() / (etagTtlSeconds * 1000) : 0;
+        String params = cacheKey(zoom, x, y, from, to, categoryIds);
+        return "\"" + Long.toHexString(generation) + "-" + Long.toHexString(version) + "-" + Long.toHexString(slot)
+                + "-" + Integer.toHexString(params.hashCode()) + "\"";
+    }
+
+    public Map<String, Object> tile(int zoom, int x, int y, LocalDate from, LocalDate to, List<Long> categoryIds) {
+        validate(zoom, x, y);
+        String key = cacheKey(zoom, x, y, from, to, categoryIds);
+        String etag = etag(zoom, x, y, from, to, categoryIds);
+        CachedTile cached = cache.get(key);
+        if (cached != null && cached.etag.equals(etag)) {
+            return cached.body;
+        }
+
+        int level = zoom + GRID_BITS;
+        int minX = x << GRID_BITS;
+        int minY = y << GRID_BITS;
+        int size = 1 << GRID_BITS;
+        List<Object> args = new ArrayList<>(List.of(minX, minY, level, minX, minX + size - 1, minY, minY + size - 1,
+                Date.valueOf(from), Date.valueOf(to)));
+        String categoryFilter = "";
+        if (categoryIds != null && !categoryIds.isEmpty()) {
+            categoryFilter = " AND crime_category_id IN (" + String.join(", ", Collections.nCopies(categoryIds.size(), "?")) + ")";
+            args.addAll(categoryIds);
+        }
+
+        List<int[]> cells = jdbcTemplate.query("""
+                        SELECT cell_x - ?, cell_y - ?, SUM(report_count) FROM report_heat_cells
+                        WHERE zoom = ? AND cell_x BETWEEN ? AND ? AND cell_y BETWEEN ? AND ?
+                          AND day BETWEEN ? AND ?%s
+                        GROUP BY cell_x, cell_y
+                        """.formatted(categoryFilter),
+                (rs, rowNum) -> new int[]{rs.getInt(1), rs.getInt(2), (int) Math.min(rs.getLong(3), Integer.MAX_VALUE)},
+                args.toArray());
+
+        int[] packed = new int[cells.size() * 3];
+        long total = 0;
+        int max = 0;
+        for (int i = 0; i < cells.size(); i++) {
+            int[] cell = cells.get(i);
+            System.arraycopy(cell, 0, packed, i * 3, 3);
+            total += cell[2];
+            max = Math.max(max, cell[2]);
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("z", zoom);
+        body.put("x", x);
+        body.put("y", y);
+        body.put("grid", size);
+        body.put("from", from.toString());
+        body.put("to", to.toString());
+        body.put("total", total);
+        body.put("max", max);
+        // flattened [column, row, count] triples, row 0 at the top of the tile
+        body.put("cells", packed);
+
+        if (cache.size() >= cacheMaxEntries) {
+            cache.clear();
+        }
+        cache.put(key, new CachedTile(etag, body));
+        return body;
+    }
+
+    public static void validate(int zoom, int x, int y) {
+        if (zoom < MIN_ZOOM || zoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("Zoom must be between " + MIN_ZOOM + " and " + MAX_ZOOM);
+        }
+        int tiles = 1 << zoom;
+        if (x < 0 || x >= tiles || y < 0 || y >= tiles) {
+            throw new IllegalArgumentException("Tile " + x + "/" + y + " is outside zoom level " + zoom);
+        }
+    }
+
+    static int tileX(double longitude, int zoom) {
+        int tiles = 1 << zoom;
+        int x = (int) Math.floor((longitude + 180) / 360 * tiles);
+        return Math.max(0, Math.min(x, tiles - 1));
+    }
+
+    static int tileY(double latitude, int zoom) {
+        int tiles = 1 << zoom;
+        double lat = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude)));
+        int y = (int) Math.floor((1 - Math.log(Math.tan(lat) + 1 / Math.cos(lat)) / Math.PI) / 2 * tiles);
+        return Math.max(0, Math.min(y, tiles - 1));
+    }
+
+    private static long tileKey(int zoom, int x, int y) {
+        return ((long) zoom << 48) | ((long) x << 24) | y;
+    }
+
+    private static String cacheKey(int zoom, int x, int y, LocalDate from, LocalDate to, List<Long> categoryIds) {
+        List<Long> categories = categoryIds == null ? List.of() : categoryIds.stream().sorted().distinct().toList();
+        return zoom + "/" + x + "/" + y + "|" + from + "|" + to + "|" + categories;
+    }
+
+    private record CachedTile(String etag, Map<String, Object> body) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.crimereport.xpose.services;
+
+import com.crimereport.xpose.util.KeywordMatcher;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+@Service
+public class KeywordService {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeywordService.class);
+
+    public static final String CRIME = "crime";
+    public static final String LEGIT = "legit";
+    public static final String URGENT = "urgent";
+
+    private static final String DEFAULT_LANGUAGE = "en";
+    private static final List<String> BUNDLED_LANGUAGES = List.of("en", "hi");
+
+    @Value("${app.keywords.dir:}")
+    private String keywordsDir;
+
+    private volatile Map<String, KeywordMatcher> matchers = Map.of();
+    private volatile KeywordMatcher combined = new KeywordMatcher(Map.of());
+    private volatile long loadedSignature;
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${app.keywords.reload-interval-ms:60000}")
+    public void reloadIfChanged() {
+        if (overrideDir() != null && signature() != loadedSignature) {
+            reload();
+        }
+    }
+
+    public synchronized void reload() {
+        Map<String, Map<String, List<String>>> lists = new LinkedHashMap<>();
+        for (String language : BUNDLED_LANGUAGES) {
+            try (InputStream in = getClass().getResourceAsStream("/keywords/" + language + ".properties")) {
+                if (in != null) {
+                    lists.put(language, parse(new InputStreamReader(in, StandardCharsets.UTF_8)));
+                }
+            } catch (IOException e) {
+                logger.error("Failed to load bundled keyword list for {}: {}", language, e.getMessage());
+            }
+        }
+
+        long signature = signature();
+        Path dir = overrideDir();
+        if (dir != null) {
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : files.filter(path -> path.toString().endsWith(".properties")).toList()) {
+                    String language = file.getFileName().toString().replace(".properties", "").toLowerCase(Locale.ROOT);
+                    try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                        lists.computeIfAbsent(language, key -> new LinkedHashMap<>()).putAll(parse(reader));
+                    }
+                }
+            } catch (IOException e) {
+                logger.error("Failed to load keyword lists from {}, keeping previous lists: {}", dir, e.getMessage());
+                return;
+            }
+        }
+
+        Map<String, KeywordMatcher> byLanguage = new LinkedHashMap<>();
+        Map<String, List<String>> merged = new LinkedHashMap<>();
+        lists.forEach((language, categories) -> {
+            byLanguage.put(language, new KeywordMatcher(categories));
+            categories.forEach((category, terms) -> merged.computeIfAbsent(category, key -> new ArrayList<>()).addAll(terms));
+        });
+
+        matchers = byLanguage;
+        combined = new KeywordMatcher(merged);
+        loadedSignature = signature;
+        logger.info("Loaded keyword lists for languages {}", byLanguage.keySet());
+    }
+
+    public KeywordMatcher.Result match(String text) {
+        return combined.match(text);
+    }
+
+    public KeywordMatcher.Result match(String language, String text) {
+        return matchers.getOrDefault(languageCode(language), combined).match(text);
+    }
+
+    private String languageCode(String language) {
+        if (language == null || language.isBlank()) {
+            return DEFAULT_LANGUAGE;
+        }
+        String value = language.trim().toLowerCase(Locale.ROOT);
+        if (matchers.containsKey(value)) {
+            return value;
+        }
+        for (String code : matchers.keySet()) {
+            if (Locale.of(code).getDisplayLanguage(Locale.ENGLISH).equalsIgnoreCase(value)) {
+                return code;
+            }
+        }
+        return value;
+    }
+
+    private Map<String, List<String>> parse(Reader reader) throws IOException {
+        Properties properties = new Properties();
+        properties.load(reader);
+        Map<String, List<String>> categories = new LinkedHashMap<>();
+        for (String category : properties.stringPropertyNames()) {
+            categories.put(category, Arrays.stream(properties.getProperty(category).split(","))
+                    .map(String::trim)
+                    .filter(term -> !term.isEmpty())
+                    .toList());
+        }
+        return categories;
+    }
+
+    private Path overrideDir() {
+        if (keywordsDir == null || keywordsDir.isBlank()) {
+            return null;
+        }
+        Path dir = Path.of(keywordsDir);
+        return Files.isDirectory(dir) ? dir : null;
+    }
+
+    private long signature() {
+        Path dir = overrideDir();
+        if (dir == null) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(path -> path.toString().endsWith(".properties"))
+                    .mapToLong(path -> {
+                        try {
+                            return Files.getLastModifiedTime(path).toMillis() * 31 + path.hashCode();
+                        } catch (IOException e) {
+                            return 0;
+                        }
+                    })
+                    .sum();
+        } catch (IOException e) {
+            return loadedSignature;
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package com.crimereport.xpose.services;
 
+import com.crimereport.xpose.config.OutboundHttpClientFactory;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -16,7 +26,7 @@ public class MLService {
 
     private static final Logger logger = LoggerFactory.getLogger(MLService.class);
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
 
     @Value("${ml.api.host}")
     private String host;
@@ -24,65 +34,90 @@ public class MLService {
     @Value("${ml.api.port}")
     private String port;
 
+    @Value("${app.resilience.ml.accept-for-review-when-unavailable:true}")
+    private boolean acceptForReviewWhenUnavailable;
+
+    @Autowired
+    private DependencyGuard dependencyGuard;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("outboundCallExecutor")
+    private AsyncTaskExecutor outboundCallExecutor;
+
+    private Counter degradedCounter;
+
+    public MLService(OutboundHttpClientFactory httpClientFactory) {
+        this.restTemplate = httpClientFactory.restTemplate(OutboundHttpClientFactory.ML);
+    }
+
+    @PostConstruct
+    public void initMetrics() {
+        degradedCounter = meterRegistry.counter("xpose.ml.degraded");
+    }
+
     public Map<String, Object> classifyDescription(String description) {
         try {
             String fastApiUrl = String.format("http://%s:%s/classify", host, port);
-            logger.info("Sending crime description to FastAPI [{}] for ML classification...", fastApiUrl);
+            logger.debug("Sending crime description to FastAPI [{}] for ML classification...", fastApiUrl);
 
             Map<String, String> request = Map.of("description", description);
 
-            Map<String, Object> response = restTemplate.postForObject(fastApiUrl, request, Map.class);
+            Map<String, Object> response = dependencyGuard.call(DependencyGuard.ML,
+                    () -> restTemplate.postForObject(fastApiUrl, request, Map.class));
 
             if (response != null) {
-                logger.info("Received classification from FastAPI:");
-                logger.info("  - Spam: {}", response.get("is_spam"));
-                logger.info("  - Hate Speech: {}", response.get("is_hate_speech"));
-                logger.info("  - Toxic: {}", response.get("is_toxic"));
-                logger.info("  - Urgency: {}", response.get("urgency"));
-                logger.info("  - Confidence: {}", response.get("confidence"));
-                logger.info("  - Quality: {}", response.get("report_quality"));
-                logger.info("  - Needs Review: {}", response.get("needs_review"));
+                logger.debug("Received classification from FastAPI:");
+                logger.debug("  - Spam: {}", response.get("is_spam"));
+                logger.debug("  - Hate Speech: {}", response.get("is_hate_speech"));
+                logger.debug("  - Toxic: {}", response.get("is_toxic"));
+                logger.debug("  - Urgency: {}", response.get("urgency"));
+                logger.debug("  - Confidence: {}", response.get("confidence"));
+                logger.debug("  - Quality: {}", response.get("report_quality"));
+                logger.debug("  - Needs Review: {}", response.get("needs_review"));
 
                 if (response.containsKey("shap_explanation")) {
                     Map<String, Object> shapExplanation = (Map<String, Object>) response.get("shap_explanation");
                     if (shapExplanation != null) {
-                        logger.info("  - SHAP Explanation available:");
-                        logger.info("    * Base Value: {}", shapExplanation.get("base_value"));
+                        logger.debug("  - SHAP Explanation available:");
+                        logger.debug("    * Base Value: {}", shapExplanation.get("base_value"));
 
                         java.util.List<Map<String, Object>> topWords =
                                 (java.util.List<Map<String, Object>>) shapExplanation.get("top_influential_words");
 
                         if (topWords != null && !topWords.isEmpty()) {
-                            logger.info("    * Top Influential Words:");
+                            logger.debug("    * Top Influential Words:");
                             for (Map<String, Object> wordData : topWords) {
-                                logger.info("      - Word: {}, Impact: {}, Influence: {}",
+                                logger.debug("      - Word: {}, Impact: {}, Influence: {}",
                                         wordData.get("word"),
                                         wordData.get("impact"),
                                         wordData.get("influence"));
                             }
                         } else {
-                            logger.warn("    * No top influential words found in SHAP explanation");
+                            logger.debug("    * No top influential words found in SHAP explanation");
                         }
 
                         java.util.List<Map<String, Object>> wordImportances =
                                 (java.util.List<Map<String, Object>>) shapExplanation.get("word_importances");
 
                         if (wordImportances != null && !wordImportances.isEmpty()) {
-                            logger.info("    * Word Importances (first 10):");
+                            logger.debug("    * Word Importances (first 10):");
                             int count = 0;
                             for (Map<String, Object> wordData : wordImportances) {
                                 if (count >= 10) break;
-                                logger.info("      - Word: {}, Score: {}",
+                                logger.debug("      - Word: {}, Score: {}",
                                         wordData.get("word"),
                                         wordData.get("score"));
                                 count++;
                             }
                         }
                     } else {
-                        logger.warn("  - SHAP Explanation is null");
+                        logger.debug("  - SHAP Explanation is null");
                     }
                 } else {
-                    logger.warn("  - No SHAP Explanation in response");
+                    logger.debug("  - No SHAP Explanation in response");
                 }
 
                 return response;
@@ -91,6 +126,9 @@ public class MLService {
                 return createErrorResponse("Null response from ML service");
             }
 
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            logger.warn("ML service unavailable, skipping classification: {}", e.getMessage());
+            return createErrorResponse("ML service unavailable: " + e.getMessage());
         } catch (HttpClientErrorException e) {
             logger.error("Client error calling FastAPI: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
             return createErrorResponse("Client error: " + e.getMessage());
@@ -104,7 +142,7 @@ public class MLService {
     }
 
     public CompletableFuture<Map<String, Object>> classifyDescriptionAsync(String description) {
-        return CompletableFuture.supplyAsync(() -> classifyDescription(description));
+        return CompletableFuture.supplyAsync(() -> classifyDescription(description), outboundCallExecutor);
     }
 
     public Map<String, Object> batchClassify(java.util.List<String> descriptions) {
@@ -116,7 +154,8 @@ public class MLService {
                     .map(desc -> Map.of("description", desc))
                     .collect(java.util.stream.Collectors.toList());
 
-            Map<String, Object> response = restTemplate.postForObject(fastApiUrl, Map.of("reports", requests), Map.class);
+            Map<String, Object> response = dependencyGuard.call(DependencyGuard.ML,
+                    () -> restTemplate.postForObject(fastApiUrl, Map.of("reports", requests), Map.class));
 
             logger.info("Received batch classification results for {} reports", descriptions.size());
             return response;
@@ -144,13 +183,15 @@ public class MLService {
     }
 
     private Map<String, Object> createErrorResponse(String errorMessage) {
-        return Map.ofEntries(
-                Map.entry("is_spam", true),
+        degradedCounter.increment();
+        boolean rejectAsSpam = !acceptForReviewWhenUnavailable;
+        return new HashMap<>(Map.ofEntries(
+                Map.entry("is_spam", rejectAsSpam),
                 Map.entry("is_hate_speech", false),
                 Map.entry("is_toxic", false),
                 Map.entry("urgency", "LOW"),
                 Map.entry("confidence", 0.0),
-                Map.entry("spam_score", 1.0),
+                Map.entry("spam_score", rejectAsSpam ? 1.0 : 0.0),
                 Map.entry("report_quality", "LOW"),
                 Map.entry("toxicity_analysis", Map.of()),
                 Map.entry("word_count", 0),
@@ -158,6 +199,6 @@ public class MLService {
                 Map.entry("needs_review", true),
                 Map.entry("error", errorMessage),
                 Map.entry("ml_service_available", false)
-        );
+        ));
     }
 }
\ No newline at end of file
@@ -0,0 +1,276 @@
+package com.crimereport.xpose.services;
+
+import com.crimereport.xpose.storage.BlobStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class MediaDerivativeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MediaDerivativeService.class);
+
+    private static final Set<String> SUPPORTED_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+
+    public enum DerivativeSize {
+        THUMB(160), PREVIEW(800);
+
+        private final int maxEdge;
+
+        DerivativeSize(int maxEdge) {
+            this.maxEdge = maxEdge;
+        }
+
+        public int getMaxEdge() {
+            return maxEdge;
+        }
+
+        public static DerivativeSize fromParam(String value) {
+            for (DerivativeSize size : values()) {
+                if (size.name().equalsIgnoreCase(value)) {
+                    return size;
+                }
+            }
+            throw new IllegalArgumentException("Unknown size: " + value);
+        }
+    }
+
+    @Autowired
+    @Qualifier("mediaDerivativeExecutor")
+    private TaskExecutor mediaDerivativeExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Value("${app.media.derivatives.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    @Value("${app.media.derivatives.max-source-pixels:50000000}")
+    private long maxSourcePixels;
+
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    private Timer generateTimer;
+    private Counter rejectedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    public void initMetrics() {
+        generateTimer = Timer.builder("xpose.media.derivatives.generate")
+                .description("Time spent generating all derivatives for one image")
+                .register(meterRegistry);
+        rejectedCounter = meterRegistry.counter("xpose.media.derivatives.rejected");
+        failedCounter = meterRegistry.counter("xpose.media.derivatives.failed");
+    }
+
+    public boolean isSupported(String fileName) {
+        return SUPPORTED_EXTENSIONS.contains(extensionOf(fileName)) && !isDerivativeKey(fileName);
+    }
+
+    public static boolean isDerivativeKey(String key) {
+        for (DerivativeSize size : DerivativeSize.values()) {
+            if (key.endsWith(derivativeSuffix(size))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void scheduleDerivatives(String namespace, String key) {
+        if (key == null || !isSupported(key)) {
+            return;
+        }
+
+        try {
+            mediaDerivativeExecutor.execute(() -> generateOnce(namespace, key));
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            logger.debug("Derivative queue full, {} will be generated on first request", key);
+        }
+    }
+
+    public String getDerivativeKey(String namespace, String key, DerivativeSize size) {
+        if (!BlobStore.isValidKey(key) || !isSupported(key)) {
+            return null;
+        }
+
+        String derivativeKey = derivativeKey(key, size);
+        if (exists(namespace, derivativeKey)) {
+            return derivativeKey;
+        }
+
+        generateOnce(namespace, key);
+        return exists(namespace, derivativeKey) ? derivativeKey : null;
+    }
+
+    private void generateOnce(String namespace, String key) {
+        String id = namespace + "/" + key;
+        CompletableFuture<Void> mine = new CompletableFuture<>();
+        CompletableFuture<Void> existing = inFlight.putIfAbsent(id, mine);
+        if (existing != null) {
+            existing.join();
+            return;
+        }
+
+        try {
+            if (!exists(namespace, derivativeKey(key, DerivativeSize.THUMB))
+                    || !exists(namespace, derivativeKey(key, DerivativeSize.PREVIEW))) {
+                generateTimer.record(() -> generate(namespace, key));
+            }
+        } finally {
+            inFlight.remove(id);
+            mine.complete(null);
+        }
+    }
+
+    private void generate(String namespace, String key) {
+        try {
+            BufferedImage source = readImage(namespace, key);
+            if (source == null) {
+                return;
+            }
+
+            BufferedImage current = source;
+            DerivativeSize[] sizes = DerivativeSize.values();
+            for (int i = sizes.length - 1; i >= 0; i--) {
+                current = scaleToFit(current, sizes[i].getMaxEdge());
+                writeJpeg(current, namespace, derivativeKey(key, sizes[i]));
+            }
+            logger.debug("Generated derivatives for {}", key);
+        } catch (Exception e) {
+            failedCounter.increment();
+            logger.warn("Failed to generate derivatives for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private BufferedImage readImage(String namespace, String key) throws IOException {
+        try (InputStream in = blobStore.open(namespace, key);
+             ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxSourcePixels) {
+                    logger.warn("Skipping derivatives for {}: {} pixels exceeds limit", key, pixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scaleToFit(BufferedImage source, int maxEdge) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        int currentWidth = width;
+        int currentHeight = height;
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, currentWidth, currentHeight);
+                g.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+
+        return current;
+    }
+
+    private void writeJpeg(BufferedImage image, String namespace, String key) throws IOException {
+        Path temp = Files.createTempFile("derivative-", ".jpg");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            blobStore.put(namespace, key, temp);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private boolean exists(String namespace, String key) {
+        try {
+            return blobStore.stat(namespace, key).isPresent();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static String derivativeKey(String key, DerivativeSize size) {
+        return key + derivativeSuffix(size);
+    }
+
+    private static String derivativeSuffix(DerivativeSize size) {
+        return "." + size.name().toLowerCase(Locale.ROOT) + ".jpg";
+    }
+
+    private String extensionOf(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot < 0 ? "" : fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
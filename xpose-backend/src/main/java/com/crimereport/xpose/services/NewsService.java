@@ -1,5 +1,6 @@
 package com.crimereport.xpose.services;
 
+import com.crimereport.xpose.config.OutboundHttpClientFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -14,11 +15,14 @@ public class NewsService {
     @Value("${newsapi.key}")
     private String newsApiKey;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
+
+    public NewsService(OutboundHttpClientFactory httpClientFactory) {
+        this.restTemplate = httpClientFactory.restTemplate(OutboundHttpClientFactory.NEWS);
+    }
 
     public Map<String, Object> getIndiaCrimeNews() {
         String url = "https://newsapi.org/v2/everything?q=India+crime&sortBy=publishedAt&pageSize=20&apiKey=" + newsApiKey;
-        RestTemplate restTemplate = new RestTemplate();
 
         try {
             ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
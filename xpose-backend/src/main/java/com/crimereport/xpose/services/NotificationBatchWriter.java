@@ -0,0 +1,241 @@
+package com.crimereport.xpose.services;
+
+import com.crimereport.xpose.models.Notification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class NotificationBatchWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationBatchWriter.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (id, user_id, type, title, message, created_at, is_read) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String ALLOCATE_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('notifications', 'id')) FROM generate_series(1, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NotificationCounterService notificationCounterService;
+
+    @Autowired
+    private NotificationPushService notificationPushService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("notificationWriterExecutor")
+    private TaskExecutor notificationWriterExecutor;
+
+    @Value("${app.notifications.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.notifications.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.notifications.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${app.notifications.offer-timeout-ms:50}")
+    private long offerTimeoutMs;
+
+    @Value("${app.notifications.shutdown-timeout-ms:5000}")
+    private long shutdownTimeoutMs;
+
+    private BlockingQueue<Notification> queue;
+    private TransactionTemplate transactionTemplate;
+    private final CountDownLatch writerStopped = new CountDownLatch(1);
+    private volatile boolean running;
+
+    private DistributionSummary batchSizes;
+    private Timer flushTimer;
+    private Counter writtenCounter;
+    private Counter coalescedCounter;
+    private Counter backpressureCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("xpose.notifications.queue.depth", queue, BlockingQueue::size)
+                .description("Notifications waiting to be written")
+                .register(meterRegistry);
+        batchSizes = DistributionSummary.builder("xpose.notifications.batch.size")
+                .description("Rows per notification batch insert")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("xpose.notifications.flush")
+                .description("Time spent writing a notification batch")
+                .register(meterRegistry);
+        writtenCounter = meterRegistry.counter("xpose.notifications.written");
+        coalescedCounter = meterRegistry.counter("xpose.notifications.coalesced");
+        backpressureCounter = meterRegistry.counter("xpose.notifications.backpressure");
+        failedCounter = meterRegistry.counter("xpose.notifications.failed");
+
+        running = true;
+        notificationWriterExecutor.execute(this::drainLoop);
+        logger.info("Notification batch writer started (capacity={}, batchSize={}, flushInterval={}ms)",
+                queueCapacity, batchSize, flushIntervalMs);
+    }
+
+    public void enqueue(Notification notification) {
+        if (!running) {
+            flush(List.of(notification));
+            return;
+        }
+
+        try {
+            if (!queue.offer(notification, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                backpressureCounter.increment();
+                logger.warn("Notification queue full ({}), writing on caller thread", queue.size());
+                flush(List.of(notification));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flush(List.of(notification));
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            if (!writerStopped.await(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+                logger.warn("Notification writer did not stop within {}ms", shutdownTimeoutMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<Notification> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            logger.info("Flushing {} pending notifications on shutdown", remaining.size());
+            flush(remaining);
+        }
+    }
+
+    private void drainLoop() {
+        List<Notification> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                Notification first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("Notification writer stopped unexpectedly: {}", e.getMessage(), e);
+        } finally {
+            writerStopped.countDown();
+        }
+    }
+
+    private void flush(List<Notification> batch) {
+        List<Notification> coalesced = coalesce(batch);
+        if (coalesced.size() < batch.size()) {
+            coalescedCounter.increment(batch.size() - coalesced.size());
+        }
+
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> writeBatch(coalesced)));
+            batchSizes.record(coalesced.size());
+            writtenCounter.increment(coalesced.size());
+            logger.debug("Wrote batch of {} notifications", coalesced.size());
+        } catch (Exception e) {
+            failedCounter.increment(coalesced.size());
+            logger.error("Failed to write batch of {} notifications: {}", coalesced.size(), e.getMessage(), e);
+            return;
+        }
+
+        notificationPushService.pushNotifications(coalesced);
+    }
+
+    private void writeBatch(List<Notification> notifications) {
+        List<Long> ids = jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            notifications.get(i).setId(ids.get(i));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, notifications.size(), (ps, n) -> {
+            ps.setLong(1, n.getId());
+            ps.setLong(2, n.getRecipient().getId());
+            ps.setString(3, n.getType().name());
+            ps.setString(4, n.getTitle());
+            ps.setString(5, n.getMessage());
+            ps.setTimestamp(6, Timestamp.valueOf(n.getCreatedAt()));
+            ps.setBoolean(7, n.isRead());
+        });
+
+        Map<Long, Long> unreadByUser = new TreeMap<>();
+        for (Notification notification : notifications) {
+            if (!notification.isRead()) {
+                unreadByUser.merge(notification.getRecipient().getId(), 1L, Long::sum);
+            }
+        }
+        notificationCounterService.increment(unreadByUser);
+    }
+
+    private List<Notification> coalesce(List<Notification> batch) {
+        if (batch.size() < 2) {
+            return new ArrayList<>(batch);
+        }
+
+        Map<List<Object>, Notification> unique = new LinkedHashMap<>();
+        for (Notification notification : batch) {
+            List<Object> key = List.of(
+                    notification.getRecipient().getId(),
+                    notification.getType(),
+                    Objects.toString(notification.getTitle(), ""),
+                    Objects.toString(notification.getMessage(), "")
+            );
+            unique.put(key, notification);
+        }
+        return new ArrayList<>(unique.values());
+    }
+}
@@ -0,0 +1,128 @@
+package com.crimereport.xpose.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class NotificationCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationCounterService.class);
+
+    private static final String INCREMENT_SQL = """
+            INSERT INTO notification_counters (user_id, unread_count) VALUES (?, ?)
+            ON CONFLICT (user_id) DO UPDATE SET unread_count = notification_counters.unread_count + EXCLUDED.unread_count
+            """;
+
+    private static final String DECREMENT_SQL =
+            "UPDATE notification_counters SET unread_count = GREATEST(unread_count - 1, 0) WHERE user_id = ?";
+
+    private static final String RESET_SQL = """
+            INSERT INTO notification_counters (user_id, unread_count) VALUES (?, 0)
+            ON CONFLICT (user_id) DO UPDATE SET unread_count = 0
+            """;
+
+    private static final String BACKFILL_SQL = """
+            INSERT INTO notification_counters (user_id, unread_count)
+            SELECT user_id, COUNT(*) FROM notifications WHERE is_read = false GROUP BY user_id
+            ON CONFLICT (user_id) DO NOTHING
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.notifications.unread-cache-ttl-ms:30000}")
+    private long cacheTtlMs;
+
+    @Value("${app.notifications.unread-cache-max-entries:50000}")
+    private int cacheMaxEntries;
+
+    private final Map<Long, CachedCount> cache = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCounters() {
+        try {
+            Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification_counters", Long.class);
+            if (existing != null && existing == 0) {
+                int rows = jdbcTemplate.update(BACKFILL_SQL);
+                logger.info("Backfilled unread notification counters for {} users", rows);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to backfill unread notification counters: {}", e.getMessage(), e);
+        }
+    }
+
+    public long getUnreadCount(Long userId) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = cache.get(userId);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.value;
+        }
+
+        List<Long> rows = jdbcTemplate.queryForList(
+                "SELECT unread_count FROM notification_counters WHERE user_id = ?", Long.class, userId);
+        long value = rows.isEmpty() ? 0L : rows.get(0);
+
+        if (cache.size() >= cacheMaxEntries) {
+            cache.clear();
+        }
+        cache.put(userId, new CachedCount(value, now + cacheTtlMs));
+        return value;
+    }
+
+    public void increment(Map<Long, Long> unreadByUser) {
+        if (unreadByUser.isEmpty()) return;
+
+        List<Object[]> args = new ArrayList<>(unreadByUser.size());
+        unreadByUser.forEach((userId, delta) -> args.add(new Object[]{userId, delta}));
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, args);
+        evictAfterCommit(unreadByUser.keySet());
+    }
+
+    public void decrement(Long userId) {
+        jdbcTemplate.update(DECREMENT_SQL, userId);
+        evictAfterCommit(List.of(userId));
+    }
+
+    public void reset(Long userId) {
+        jdbcTemplate.update(RESET_SQL, userId);
+        evictAfterCommit(List.of(userId));
+    }
+
+    private void evictAfterCommit(Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ids.forEach(cache::remove);
+                }
+            });
+        } else {
+            ids.forEach(cache::remove);
+        }
+    }
+
+    private static class CachedCount {
+        private final long value;
+        private final long expiresAt;
+
+        private CachedCount(long value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
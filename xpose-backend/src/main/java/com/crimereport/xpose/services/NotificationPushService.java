@@ -0,0 +1,100 @@
+package com.crimereport.xpose.services;
+
+import com.crimereport.xpose.dto.NotificationItem;
+import com.crimereport.xpose.models.Notification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class NotificationPushService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationPushService.class);
+
+    private static final String USER_QUEUE = "/queue/notifications";
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private SimpUserRegistry simpUserRegistry;
+
+    @Autowired
+    private NotificationCounterService notificationCounterService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter pushedMessages;
+    private Counter pushedNotifications;
+
+    @PostConstruct
+    public void initMetrics() {
+        pushedMessages = meterRegistry.counter("xpose.notifications.push.messages");
+        pushedNotifications = meterRegistry.counter("xpose.notifications.push.items");
+    }
+
+    public void pushNotifications(List<Notification> notifications) {
+        Map<Long, List<NotificationItem>> byUser = new LinkedHashMap<>();
+        for (Notification notification : notifications) {
+            Long userId = notification.getRecipient().getId();
+            if (!isConnected(userId)) {
+                continue;
+            }
+            byUser.computeIfAbsent(userId, id -> new ArrayList<>()).add(new NotificationItem(
+                    notification.getId(),
+                    notification.getType(),
+                    notification.getTitle(),
+                    notification.getMessage(),
+                    notification.getCreatedAt(),
+                    notification.isRead()
+            ));
+        }
+
+        byUser.forEach((userId, items) -> {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("type", "NOTIFICATIONS");
+            payload.put("notifications", items);
+            payload.put("unreadCount", notificationCounterService.getUnreadCount(userId));
+            payload.put("timestamp", System.currentTimeMillis());
+            send(userId, payload);
+            pushedNotifications.increment(items.size());
+        });
+    }
+
+    public void pushUnreadCount(Long userId) {
+        if (!isConnected(userId)) {
+            return;
+        }
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("type", "UNREAD_COUNT");
+        payload.put("unreadCount", notificationCounterService.getUnreadCount(userId));
+        payload.put("timestamp", System.currentTimeMillis());
+        send(userId, payload);
+    }
+
+    private boolean isConnected(Long userId) {
+        return userId != null && simpUserRegistry.getUser(userId.toString()) != null;
+    }
+
+    private void send(Long userId, Map<String, Object> payload) {
+        try {
+            messagingTemplate.convertAndSendToUser(userId.toString(), USER_QUEUE, payload);
+            pushedMessages.increment();
+        } catch (Exception e) {
+            logger.warn("Failed to push notifications to user {}: {}", userId, e.getMessage());
+        }
+    }
+}
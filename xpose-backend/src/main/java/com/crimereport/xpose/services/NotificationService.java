@@ -1,22 +1,41 @@
 package com.crimereport.xpose.services;
 
+import com.crimereport.xpose.dto.NotificationItem;
 import com.crimereport.xpose.models.Notification;
 import com.crimereport.xpose.models.User;
 import com.crimereport.xpose.repository.NotificationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class NotificationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private NotificationRepository notificationRepository;
 
+    @Autowired
+    private NotificationCounterService notificationCounterService;
+
+    @Transactional
     public Notification saveNotification(Notification notification) {
-        return notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+        if (!saved.isRead()) {
+            notificationCounterService.increment(Map.of(saved.getRecipient().getId(), 1L));
+        }
+        return saved;
     }
 
     public List<Notification> getNotificationsForUser(User user) {
@@ -27,17 +46,84 @@ public class NotificationService {
         return notificationRepository.findByRecipientAndIsReadFalseOrderByCreatedAtDesc(user);
     }
 
+    public Map<String, Object> getInbox(Long userId, String cursor, int limit, boolean unreadOnly) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<NotificationItem> items;
+        if (cursor == null || cursor.isBlank()) {
+            items = unreadOnly
+                    ? notificationRepository.findUnreadInbox(userId, pageable)
+                    : notificationRepository.findInbox(userId, pageable);
+        } else {
+            InboxCursor position = decodeCursor(cursor);
+            items = unreadOnly
+                    ? notificationRepository.findUnreadInboxBefore(userId, position.createdAt, position.id, pageable)
+                    : notificationRepository.findInboxBefore(userId, position.createdAt, position.id, pageable);
+        }
+
+        boolean hasMore = items.size() > pageSize;
+        List<NotificationItem> page = hasMore ? items.subList(0, pageSize) : items;
+        NotificationItem last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("notifications", page);
+        response.put("hasMore", hasMore);
+        response.put("nextCursor", hasMore && last != null ? encodeCursor(last.getCreatedAt(), last.getId()) : null);
+        response.put("unreadCount", notificationCounterService.getUnreadCount(userId));
+        return response;
+    }
+
+    public long getUnreadCount(Long userId) {
+        return notificationCounterService.getUnreadCount(userId);
+    }
+
     public Optional<Notification> getNotificationById(Long notificationId) {
         return notificationRepository.findById(notificationId);
     }
 
+    @Transactional
     public Notification markNotificationAsRead(Long notificationId) {
-        Optional<Notification> optionalNotification = notificationRepository.findById(notificationId);
-        if (optionalNotification.isPresent()) {
-            Notification notification = optionalNotification.get();
-            notification.setRead(true);
-            return notificationRepository.save(notification);
+        Optional<Long> recipientId = notificationRepository.findRecipientIdById(notificationId);
+        if (recipientId.isEmpty()) {
+            return null;
+        }
+
+        if (notificationRepository.markAsReadIfUnread(notificationId) > 0) {
+            notificationCounterService.decrement(recipientId.get());
+        }
+        return notificationRepository.findById(notificationId).orElse(null);
+    }
+
+    @Transactional
+    public int markAllNotificationsAsRead(Long userId) {
+        notificationCounterService.reset(userId);
+        return notificationRepository.markAllAsReadForUser(userId);
+    }
+
+    private String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private InboxCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new InboxCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid inbox cursor");
+        }
+    }
+
+    private static class InboxCursor {
+        private final LocalDateTime createdAt;
+        private final Long id;
+
+        private InboxCursor(LocalDateTime createdAt, Long id) {
+            this.createdAt = createdAt;
+            this.id = id;
         }
-        return null;
     }
-}
\ No newline at end of file
+}
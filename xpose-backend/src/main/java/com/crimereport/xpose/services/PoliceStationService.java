@@ -1,5 +1,6 @@
 package com.crimereport.xpose.services;
 
+import com.crimereport.xpose.config.OutboundHttpClientFactory;
 import com.crimereport.xpose.models.PoliceStation;
 import com.crimereport.xpose.repository.PoliceStationRepository;
 import org.apache.poi.ss.usermodel.*;
@@ -24,10 +25,17 @@ public class PoliceStationService {
     @Autowired
     private PoliceStationRepository policeStationRepository;
 
-    private final String PLACES_BASE_URL = "https://maps.googleapis.com/maps/api/place/nearbysearch/json";
-    private final String GEOCODING_BASE_URL = "https://maps.googleapis.com/maps/api/geocode/json";
+    @Value("${app.google.maps-base-url:https://maps.googleapis.com/maps/api}")
+    private String mapsBaseUrl;
+
     private Map<String, double[]> districtCoordinates = new HashMap<>();
 
+    private final RestTemplate restTemplate;
+
+    public PoliceStationService(OutboundHttpClientFactory httpClientFactory) {
+        this.restTemplate = httpClientFactory.restTemplate(OutboundHttpClientFactory.GOOGLE_MAPS);
+    }
+
     @PostConstruct
     public void loadDistrictCoordinates() {
         try (InputStream is = getClass().getResourceAsStream("/excel-data/india_districts.xlsx");
@@ -50,14 +58,13 @@ public class PoliceStationService {
     }
 
     public Map<String, Object> getNearbyPoliceStations(double lat, double lng, int radius) {
-        String uri = UriComponentsBuilder.fromHttpUrl(PLACES_BASE_URL)
+        String uri = UriComponentsBuilder.fromHttpUrl(mapsBaseUrl + "/place/nearbysearch/json")
                 .queryParam("location", lat + "," + lng)
                 .queryParam("radius", radius)
                 .queryParam("type", "police")
                 .queryParam("key", placesApiKey)
                 .toUriString();
 
-        RestTemplate restTemplate = new RestTemplate();
         Map<String, Object> response = restTemplate.getForObject(uri, Map.class);
 
         Map<String, String> locationDetails = findStateAndDistrict(lat, lng);
@@ -105,7 +112,7 @@ public class PoliceStationService {
         return Map.of("state", closestState, "district", closestDistrict);
     }
 
-    private double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
+    double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
         double earthRadius = 6371e3;
         double lat1Rad = Math.toRadians(lat1);
         double lat2Rad = Math.toRadians(lat2);
@@ -1,5 +1,6 @@
 package com.crimereport.xpose.services;
 
+import com.crimereport.xpose.config.OutboundHttpClientFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -24,6 +25,12 @@ public class RecaptchaService {
 
     private static final String VERIFY_URL = "https://www.google.com/recaptcha/api/siteverify";
 
+    private final RestTemplate restTemplate;
+
+    public RecaptchaService(OutboundHttpClientFactory httpClientFactory) {
+        this.restTemplate = httpClientFactory.restTemplate(OutboundHttpClientFactory.RECAPTCHA);
+    }
+
     public boolean verifyToken(String token) {
         if (token == null || token.trim().isEmpty()) {
             System.err.println("ERROR: Token is null or empty");
@@ -41,8 +48,6 @@ public class RecaptchaService {
         }
 
         try {
-            RestTemplate restTemplate = new RestTemplate();
-
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
 
@@ -0,0 +1,115 @@
+package com.crimereport.xpose.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class ReportArchivalService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportArchivalService.class);
+
+    // flipping archived moves the row from its monthly hot partition into the yearly archive partition
+    private static final String ARCHIVE_BATCH_SQL = """
+            WITH batch AS (
+                SELECT id, submitted_at FROM crime_reports
+                WHERE archived = false
+                  AND submitted_at < ?
+                  AND (status = 'REJECTED' OR admin_status = 'REJECTED' OR police_status IN ('RESOLVED', 'CLOSED'))
+                ORDER BY submitted_at
+                LIMIT ?
+            )
+            UPDATE crime_reports cr SET archived = true
+            FROM batch
+            WHERE cr.archived = false AND cr.id = batch.id AND cr.submitted_at = batch.submitted_at
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${app.archive.enabled:true}")
+    private boolean archiveEnabled;
+
+    @Value("${app.archive.after-days:180}")
+    private long archiveAfterDays;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.archive.max-per-run:50000}")
+    private int maxPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private Counter archivedCounter;
+
+    @PostConstruct
+    public void initMetrics() {
+        archivedCounter = meterRegistry.counter("xpose.reports.archived");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.partitions.maintenance-cron:0 15 2 * * *}")
+    public void ensurePartitions() {
+        try {
+            LocalDate month = LocalDate.now().withDayOfMonth(1);
+            Integer created = jdbcTemplate.queryForObject("SELECT ensure_crime_report_partitions(?, ?)", Integer.class,
+                    Date.valueOf(month), Date.valueOf(month.plusMonths(monthsAhead)));
+            if (created != null && created > 0) {
+                logger.info("Created {} crime_reports partitions", created);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to create upcoming crime_reports partitions: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 30 2 * * *}")
+    public void archiveClosedReports() {
+        if (!archiveEnabled) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            logger.warn("Report archival is already running, skipping this run");
+            return;
+        }
+
+        try {
+            Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(archiveAfterDays));
+            int archived = 0;
+            while (archived < maxPerRun) {
+                int moved = jdbcTemplate.update(ARCHIVE_BATCH_SQL, cutoff, Math.min(batchSize, maxPerRun - archived));
+                archived += moved;
+                archivedCounter.increment(moved);
+                if (moved < batchSize) {
+                    break;
+                }
+            }
+            logger.info("Archived {} closed/rejected reports older than {} days", archived, archiveAfterDays);
+        } catch (Exception e) {
+            logger.error("Report archival failed: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+}
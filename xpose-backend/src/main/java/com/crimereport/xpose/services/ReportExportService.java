@@ -0,0 +1,321 @@
+package com.crimereport.xpose.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class ReportExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportExportService.class);
+
+    public enum Format { CSV, XLSX }
+
+    // last usable row of an .xlsx sheet, keeping one for the header
+    private static final int XLSX_MAX_ROWS = 1_048_575;
+    private static final int XLSX_MAX_CELL_LENGTH = 32_767;
+
+    private static final DateTimeFormatter CSV_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String[] HEADERS = {
+            "Report ID", "Submitted At", "Category", "Crime Type", "Status", "Urgency", "Admin Status", "Police Status",
+            "Police Station", "Assigned Officer", "Address", "City", "State", "Latitude", "Longitude",
+            "Reviewed At", "Action Taken At", "Duplicate Of", "Description"
+    };
+
+    private static final String SELECT_SQL = """
+            SELECT cr.id, cr.submitted_at, cc.name, ct.name, cr.status, cr.urgency_level, cr.admin_status, cr.police_status,
+                   cr.police_station, ao.name, cr.address, cr.city, cr.state, cr.latitude, cr.longitude,
+                   cr.reviewed_at, cr.action_taken_at, cr.duplicate_of, p.translated_description
+            FROM crime_reports cr
+            LEFT JOIN crime_report_payloads p ON p.report_id = cr.id
+            LEFT JOIN crime_categories cc ON cc.id = cr.crime_category_id
+            LEFT JOIN crime_types ct ON ct.id = cr.crime_type_id
+            LEFT JOIN authorities ao ON ao.id = cr.assigned_officer_id
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${app.export.max-rows:1000000}")
+    private int maxRows;
+
+    @Value("${app.export.xlsx-window:200}")
+    private int xlsxWindow;
+
+    public record Filter(LocalDate from, LocalDate to, Long stationId, Long officerId, String status,
+                         String adminStatus, String policeStatus, String urgency, Long categoryId,
+                         Long crimeTypeId, boolean includeArchived) {
+    }
+
+    /**
+     * Streams every report matching the filter to {@code out}. PostgreSQL only honours the fetch size
+     * inside a transaction, so the cursor is read in batches instead of materialising the whole result.
+     */
+    @Transactional(readOnly = true)
+    public long export(Filter filter, Format format, OutputStream out) throws IOException {
+        List<Object> args = new ArrayList<>();
+        String sql = SELECT_SQL + where(filter, args) + " ORDER BY cr.submitted_at, cr.id LIMIT ?";
+        int limit = format == Format.XLSX ? Math.min(maxRows, XLSX_MAX_ROWS) : maxRows;
+        args.add(limit);
+
+        long started = System.nanoTime();
+        try (RowSink sink = format == Format.XLSX ? new XlsxSink(out, xlsxWindow) : new CsvSink(out)) {
+            sink.header(HEADERS);
+            long[] rows = {0};
+            Object[] values = new Object[HEADERS.length];
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                for (int i = 0; i < args.size(); i++) {
+                    ps.setObject(i + 1, args.get(i));
+                }
+                return ps;
+            }, (ResultSet rs) -> {
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = value(rs, i + 1);
+                }
+                try {
+                    sink.row(values);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+            sink.finish();
+
+            meterRegistry.counter("xpose.reports.exported", "format", format.name().toLowerCase()).increment(rows[0]);
+            logger.info("Exported {} reports as {} in {} ms", rows[0], format, (System.nanoTime() - started) / 1_000_000);
+            return rows[0];
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static String where(Filter filter, List<Object> args) {
+        List<String> conditions = new ArrayList<>();
+        if (!filter.includeArchived()) {
+            conditions.add("cr.archived = false");
+        }
+        if (filter.from() != null) {
+            conditions.add("cr.submitted_at >= ?");
+            args.add(Timestamp.valueOf(filter.from().atStartOfDay()));
+        }
+        if (filter.to() != null) {
+            conditions.add("cr.submitted_at < ?");
+            args.add(Timestamp.valueOf(filter.to().plusDays(1).atStartOfDay()));
+        }
+        if (filter.stationId() != null) {
+            conditions.add("cr.police_station = (SELECT name FROM police_stations WHERE id = ?)");
+            args.add(filter.stationId());
+        }
+        if (filter.officerId() != null) {
+            conditions.add("cr.assigned_officer_id = ?");
+            args.add(filter.officerId());
+        }
+        if (filter.status() != null) {
+            conditions.add("cr.status = ?");
+            args.add(filter.status());
+        }
+        if (filter.adminStatus() != null) {
+            conditions.add("cr.admin_status = ?");
+            args.add(filter.adminStatus());
+        }
+        if (filter.policeStatus() != null) {
+            conditions.add("cr.police_status = ?");
+            args.add(filter.policeStatus());
+        }
+        if (filter.urgency() != null) {
+            conditions.add("cr.urgency_level = ?");
+            args.add(filter.urgency());
+        }
+        if (filter.categoryId() != null) {
+            conditions.add("cr.crime_category_id = ?");
+            args.add(filter.categoryId());
+        }
+        if (filter.crimeTypeId() != null) {
+            conditions.add("cr.crime_type_id = ?");
+            args.add(filter.crimeTypeId());
+        }
+        return conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static Object value(ResultSet rs, int column) throws SQLException {
+        Object value = rs.getObject(column);
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value;
+    }
+
+    // spreadsheet apps evaluate cells starting with these, and descriptions are user-supplied
+    private static String neutralize(String value) {
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            return "'" + value;
+        }
+        return value;
+    }
+
+    static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text;
+        if (value instanceof Number) {
+            text = value.toString();
+        } else if (value instanceof LocalDateTime dateTime) {
+            text = CSV_TIMESTAMP.format(dateTime);
+        } else {
+            text = neutralize(value.toString());
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    private interface RowSink extends AutoCloseable {
+        void header(String[] names) throws IOException;
+
+        void row(Object[] values) throws IOException;
+
+        void finish() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private static class CsvSink implements RowSink {
+
+        private final Writer writer;
+
+        CsvSink(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        }
+
+        @Override
+        public void header(String[] names) throws IOException {
+            // BOM so Excel picks UTF-8 for non-Latin descriptions
+            writer.write('\uFEFF');
+            row(names);
+        }
+
+        @Override
+        public void row(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(csv(values[i]));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class XlsxSink implements RowSink {
+
+        private final OutputStream out;
+        private final SXSSFWorkbook workbook;
+        private final Sheet sheet;
+        private final CellStyle dateStyle;
+        private int rowIndex;
+
+        XlsxSink(OutputStream out, int window) {
+            this.out = out;
+            this.workbook = new SXSSFWorkbook(window);
+            this.workbook.setCompressTempFiles(true);
+            this.sheet = workbook.createSheet("Reports");
+            this.dateStyle = workbook.createCellStyle();
+            this.dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+        }
+
+        @Override
+        public void header(String[] names) {
+            CellStyle style = workbook.createCellStyle();
+            Font bold = workbook.createFont();
+            bold.setBold(true);
+            style.setFont(bold);
+            Row row = sheet.createRow(rowIndex++);
+            for (int i = 0; i < names.length; i++) {
+                Cell cell = row.createCell(i);
+                cell.setCellValue(names[i]);
+                cell.setCellStyle(style);
+            }
+            sheet.createFreezePane(0, 1);
+        }
+
+        @Override
+        public void row(Object[] values) {
+            Row row = sheet.createRow(rowIndex++);
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    continue;
+                }
+                Cell cell = row.createCell(i);
+                if (value instanceof Number number) {
+                    cell.setCellValue(number.doubleValue());
+                } else if (value instanceof LocalDateTime dateTime) {
+                    cell.setCellValue(dateTime);
+                    cell.setCellStyle(dateStyle);
+                } else {
+                    String text = value.toString();
+                    cell.setCellValue(text.length() > XLSX_MAX_CELL_LENGTH ? text.substring(0, XLSX_MAX_CELL_LENGTH) : text);
+                }
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            workbook.write(out);
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // removes the temp files SXSSF spilled rows to
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+}
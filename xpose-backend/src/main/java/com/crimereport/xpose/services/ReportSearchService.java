@@ -70,7 +70,7 @@ public class ReportSearchService {
                 .toList();
     }
 
-    private boolean applyFilters(CrimeReportList report, Map<String, Object> filters) {
+    boolean applyFilters(CrimeReportList report, Map<String, Object> filters) {
         if (filters == null) return true;
 
         for (Map.Entry<String, Object> entry : filters.entrySet()) {
@@ -0,0 +1,265 @@
+package com.crimereport.xpose.services;
+
+import com.crimereport.xpose.models.CrimeReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+@Service
+public class ReportStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportStatsService.class);
+
+    public enum Granularity { HOUR, DAY }
+
+    public static final String UNKNOWN = "UNKNOWN";
+
+    // dimension -> SQL expression over crime_reports used by the backfill; snapshot() must produce the same values
+    private static final Map<String, String> DIMENSIONS = new LinkedHashMap<>();
+
+    static {
+        DIMENSIONS.put("total", "'all'");
+        DIMENSIONS.put("status", "status");
+        DIMENSIONS.put("urgency", "urgency_level");
+        DIMENSIONS.put("admin_status", "admin_status");
+        DIMENSIONS.put("police_status", "police_status");
+        DIMENSIONS.put("category", "CAST(crime_category_id AS VARCHAR)");
+        DIMENSIONS.put("crime_type", "CAST(crime_type_id AS VARCHAR)");
+        DIMENSIONS.put("district", "city");
+        DIMENSIONS.put("station", "police_station");
+        DIMENSIONS.put("officer", "CAST(assigned_officer_id AS VARCHAR)");
+    }
+
+    private static final List<String> COUNT_DIMENSIONS = List.of("total", "status", "urgency", "admin_status", "police_status");
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO report_stats_rollups (granularity, bucket_start, dimension, dimension_value, report_count)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (granularity, bucket_start, dimension, dimension_value)
+            DO UPDATE SET report_count = report_stats_rollups.report_count + EXCLUDED.report_count
+            """;
+
+    private static final String BACKFILL_SQL = """
+            INSERT INTO report_stats_rollups (granularity, bucket_start, dimension, dimension_value, report_count)
+            SELECT '%1$s', date_trunc('%2$s', submitted_at), '%3$s', COALESCE(%4$s, '%5$s'), COUNT(*)
+            FROM crime_reports
+            GROUP BY date_trunc('%2$s', submitted_at), COALESCE(%4$s, '%5$s')
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRollups() {
+        try {
+            Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM report_stats_rollups", Long.class);
+            if (existing != null && existing == 0) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            logger.error("Failed to backfill report statistics rollups: {}", e.getMessage(), e);
+        }
+    }
+
+    @Transactional
+    public int rebuild() {
+        jdbcTemplate.update("DELETE FROM report_stats_rollups");
+        int rows = 0;
+        for (Granularity granularity : Granularity.values()) {
+            for (Map.Entry<String, String> dimension : DIMENSIONS.entrySet()) {
+                rows += jdbcTemplate.update(BACKFILL_SQL.formatted(granularity.name(), granularity.name().toLowerCase(),
+                        dimension.getKey(), dimension.getValue(), UNKNOWN));
+            }
+        }
+        logger.info("Rebuilt report statistics rollups ({} rows)", rows);
+        return rows;
+    }
+
+    public Map<String, String> snapshot(CrimeReport report) {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("total", "all");
+        values.put("status", value(report.getStatus()));
+        values.put("urgency", value(report.getUrgencyLevel()));
+        values.put("admin_status", value(report.getAdminStatus()));
+        values.put("police_status", value(report.getPoliceStatus()));
+        values.put("category", value(report.getCrimeCategoryId()));
+        values.put("crime_type", value(report.getCrimeTypeId()));
+        values.put("district", value(report.getCity()));
+        values.put("station", value(report.getPoliceStation()));
+        values.put("officer", value(report.getAssignedOfficer() != null ? report.getAssignedOfficer().getId() : null));
+        return values;
+    }
+
+    public void recordCreated(CrimeReport report) {
+        Map<Delta, Long> deltas = new TreeMap<>();
+        collect(deltas, report.getSubmittedAt(), Map.of(), snapshot(report));
+        apply(deltas);
+    }
+
+    public void recordChange(Map<String, String> before, CrimeReport report) {
+        Map<Delta, Long> deltas = new TreeMap<>();
+        collect(deltas, report.getSubmittedAt(), before, snapshot(report));
+        apply(deltas);
+    }
+
+    public void recordChanges(Map<String, Map<String, String>> beforeById, Collection<CrimeReport> reports) {
+        Map<Delta, Long> deltas = new TreeMap<>();
+        for (CrimeReport report : reports) {
+            collect(deltas, report.getSubmittedAt(), beforeById.getOrDefault(report.getId(), Map.of()), snapshot(report));
+        }
+        apply(deltas);
+    }
+
+    public Map<String, Object> counts(LocalDate from, LocalDate to) {
+        Map<String, Map<String, Long>> byDimension = new LinkedHashMap<>();
+        COUNT_DIMENSIONS.forEach(dimension -> byDimension.put(dimension, new LinkedHashMap<>()));
+        jdbcTemplate.query("""
+                        SELECT dimension, dimension_value, SUM(report_count) FROM report_stats_rollups
+                        WHERE granularity = 'DAY' AND bucket_start >= ? AND bucket_start < ? AND dimension IN (%s)
+                        GROUP BY dimension, dimension_value
+                        HAVING SUM(report_count) > 0
+                        ORDER BY dimension, SUM(report_count) DESC
+                        """.formatted(String.join(", ", COUNT_DIMENSIONS.stream().map(d -> "'" + d + "'").toList())),
+                rs -> {
+                    byDimension.get(rs.getString(1)).put(rs.getString(2), rs.getLong(3));
+                },
+                start(from), end(to));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("from", from.toString());
+        result.put("to", to.toString());
+        result.put("total", byDimension.remove("total").getOrDefault("all", 0L));
+        byDimension.forEach(result::put);
+        return result;
+    }
+
+    public List<Map<String, Object>> trend(String dimension, String value, Granularity granularity, LocalDate from, LocalDate to) {
+        requireDimension(dimension);
+        return jdbcTemplate.query("""
+                        SELECT bucket_start, report_count FROM report_stats_rollups
+                        WHERE granularity = ? AND dimension = ? AND dimension_value = ?
+                          AND bucket_start >= ? AND bucket_start < ?
+                        ORDER BY bucket_start
+                        """,
+                (rs, rowNum) -> {
+                    Map<String, Object> point = new LinkedHashMap<>();
+                    point.put("bucket", rs.getTimestamp(1).toLocalDateTime().toString());
+                    point.put("count", rs.getLong(2));
+                    return point;
+                },
+                granularity.name(), dimension, value, start(from), end(to));
+    }
+
+    public List<Map<String, Object>> breakdown(String dimension, LocalDate from, LocalDate to, int limit) {
+        requireDimension(dimension);
+        return jdbcTemplate.query("""
+                        SELECT dimension_value, SUM(report_count) FROM report_stats_rollups
+                        WHERE granularity = 'DAY' AND dimension = ? AND bucket_start >= ? AND bucket_start < ?
+                        GROUP BY dimension_value
+                        HAVING SUM(report_count) > 0
+                        ORDER BY SUM(report_count) DESC, dimension_value
+                        LIMIT ?
+                        """,
+                (rs, rowNum) -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("value", rs.getString(1));
+                    row.put("count", rs.getLong(2));
+                    return row;
+                },
+                dimension, start(from), end(to), limit);
+    }
+
+    public static boolean isDimension(String dimension) {
+        return DIMENSIONS.containsKey(dimension);
+    }
+
+    private void collect(Map<Delta, Long> deltas, LocalDateTime submittedAt, Map<String, String> before, Map<String, String> after) {
+        if (submittedAt == null) {
+            return;
+        }
+        for (Map.Entry<String, String> entry : after.entrySet()) {
+            String previous = before.get(entry.getKey());
+            if (Objects.equals(previous, entry.getValue())) {
+                continue;
+            }
+            for (Granularity granularity : Granularity.values()) {
+                LocalDateTime bucket = bucket(submittedAt, granularity);
+                deltas.merge(new Delta(granularity.name(), bucket, entry.getKey(), entry.getValue()), 1L, Long::sum);
+                if (previous != null) {
+                    deltas.merge(new Delta(granularity.name(), bucket, entry.getKey(), previous), -1L, Long::sum);
+                }
+            }
+        }
+    }
+
+    private void apply(Map<Delta, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((delta, count) -> {
+            if (count != 0) {
+                args.add(new Object[]{delta.granularity(), Timestamp.valueOf(delta.bucket()), delta.dimension(), delta.value(), count});
+            }
+        });
+        if (args.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+        } catch (Exception e) {
+            logger.error("Failed to update report statistics rollups: {}", e.getMessage(), e);
+        }
+    }
+
+    private static LocalDateTime bucket(LocalDateTime time, Granularity granularity) {
+        return granularity == Granularity.HOUR ? time.truncatedTo(ChronoUnit.HOURS) : time.truncatedTo(ChronoUnit.DAYS);
+    }
+
+    private static Timestamp start(LocalDate from) {
+        return Timestamp.valueOf(from.atStartOfDay());
+    }
+
+    private static Timestamp end(LocalDate to) {
+        return Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+    }
+
+    private static String value(Object value) {
+        if (value == null) {
+            return UNKNOWN;
+        }
+        return value instanceof Enum<?> e ? e.name() : value.toString();
+    }
+
+    private static void requireDimension(String dimension) {
+        if (!isDimension(dimension)) {
+            throw new IllegalArgumentException("Unknown statistics dimension: " + dimension + " (expected one of " + DIMENSIONS.keySet() + ")");
+        }
+    }
+
+    // ordered so concurrent batches lock rollup rows in the same order
+    private record Delta(String granularity, LocalDateTime bucket, String dimension, String value) implements Comparable<Delta> {
+        @Override
+        public int compareTo(Delta other) {
+            int c = granularity.compareTo(other.granularity);
+            if (c == 0) c = bucket.compareTo(other.bucket);
+            if (c == 0) c = dimension.compareTo(other.dimension);
+            if (c == 0) c = value.compareTo(other.value);
+            return c;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.crimereport.xpose.services;
 
+import com.crimereport.xpose.config.OutboundHttpClientFactory;
 import com.crimereport.xpose.dto.CrimeReportDetail;
 import com.crimereport.xpose.dto.CrimeReportList;
 import com.crimereport.xpose.models.*;
@@ -44,6 +45,9 @@ public class ReportViewService {
     @Autowired
     private PoliceStationRepository policeStationRepository;
 
+    @Autowired
+    private ReportStatsService reportStatsService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -53,7 +57,11 @@ public class ReportViewService {
     @Value("${blockchain.api.port}")
     private String blockchainPort;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
+
+    public ReportViewService(OutboundHttpClientFactory httpClientFactory) {
+        this.restTemplate = httpClientFactory.restTemplate(OutboundHttpClientFactory.BLOCKCHAIN);
+    }
 
     public Page<CrimeReportList> getAllReports(Pageable pageable, String stationName, Long officerId) {
         logger.info("🔍 getAllReports called with stationName={}, officerId={}", stationName, officerId);
@@ -257,8 +265,10 @@ public class ReportViewService {
         }
 
         CrimeReport report = reportOpt.get();
+        Map<String, String> before = reportStatsService.snapshot(report);
         report.setAssignedOfficer(officerOpt.get());
         crimeReportRepository.save(report);
+        reportStatsService.recordChange(before, report);
         logger.info("Assigned report {} to officer ID {}", reportId, officerId);
     }
 
@@ -302,14 +312,16 @@ public class ReportViewService {
 
         Random random = new Random();
         Authority selectedOfficer = stationOfficers.get(random.nextInt(stationOfficers.size()));
+        Map<String, String> before = reportStatsService.snapshot(report);
         report.setAssignedOfficer(selectedOfficer);
         report.setPoliceStation(stationName);
         crimeReportRepository.save(report);
+        reportStatsService.recordChange(before, report);
         logger.info("Auto-assigned report {} to officer ID {} at station {}", reportId, selectedOfficer.getId(), stationName);
         return selectedOfficer.getId();
     }
 
-    private Map<String, Object> parseJsonToMap(String json) {
+    Map<String, Object> parseJsonToMap(String json) {
         if (json == null || json.trim().isEmpty()) {
             return Map.of();
         }
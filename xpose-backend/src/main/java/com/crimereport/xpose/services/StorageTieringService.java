@@ -0,0 +1,102 @@
+package com.crimereport.xpose.services;
+
+import com.crimereport.xpose.storage.BlobStore;
+import com.crimereport.xpose.storage.TieredBlobStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+@Service
+public class StorageTieringService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageTieringService.class);
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.storage.tiering.cold-after-days:90}")
+    private long coldAfterDays;
+
+    @Value("${app.storage.tiering.namespaces:evidence}")
+    private List<String> namespaces;
+
+    @Value("${app.storage.tiering.max-per-run:1000}")
+    private int maxPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private Counter movedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    public void initMetrics() {
+        movedCounter = meterRegistry.counter("xpose.storage.tiering.moved");
+        failedCounter = meterRegistry.counter("xpose.storage.tiering.failed");
+    }
+
+    @Scheduled(cron = "${app.storage.tiering.cron:0 30 3 * * *}")
+    public void runTiering() {
+        if (!(blobStore instanceof TieredBlobStore tiered)) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            logger.warn("Storage tiering is already running, skipping this run");
+            return;
+        }
+
+        try {
+            Instant cutoff = Instant.now().minus(Duration.ofDays(coldAfterDays));
+            int moved = 0;
+            for (String namespace : namespaces) {
+                moved += demoteNamespace(tiered, namespace.trim(), cutoff, maxPerRun - moved);
+                if (moved >= maxPerRun) {
+                    break;
+                }
+            }
+            logger.info("Storage tiering moved {} blobs older than {} days to the cold tier", moved, coldAfterDays);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int demoteNamespace(TieredBlobStore tiered, String namespace, Instant cutoff, int limit) {
+        int moved = 0;
+        try (Stream<String> keys = tiered.getHot().listOlderThan(namespace, cutoff)) {
+            Iterator<String> iterator = keys.iterator();
+            while (iterator.hasNext() && moved < limit) {
+                String key = iterator.next();
+                if (MediaDerivativeService.isDerivativeKey(key)) {
+                    continue;
+                }
+                try {
+                    if (tiered.demote(namespace, key)) {
+                        moved++;
+                        movedCounter.increment();
+                    }
+                } catch (Exception e) {
+                    failedCounter.increment();
+                    logger.warn("Failed to move {}/{} to the cold tier: {}", namespace, key, e.getMessage());
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Storage tiering failed for namespace {}: {}", namespace, e.getMessage(), e);
+        }
+        return moved;
+    }
+}
@@ -0,0 +1,170 @@
+package com.crimereport.xpose.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class SubmissionIdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionIdempotencyService.class);
+
+    public static final int MAX_KEY_LENGTH = 128;
+
+    private static final long INITIAL_POLL_MS = 50;
+    private static final long MAX_POLL_MS = 1000;
+
+    // all times come from the database clock so nodes with skewed clocks agree on leases and expiry
+    private static final String CLAIM_SQL = """
+            INSERT INTO submission_idempotency_keys (idempotency_key, request_hash, status, owner, lease_until, expires_at)
+            VALUES (?, ?, 'IN_PROGRESS', ?, now() + make_interval(secs => ?), now() + make_interval(hours => ?))
+            ON CONFLICT (idempotency_key) DO NOTHING
+            """;
+
+    // an expired entry is reusable by anyone; an abandoned lease (node died mid-request) only by the same request
+    private static final String TAKE_OVER_SQL = """
+            UPDATE submission_idempotency_keys
+            SET request_hash = ?, status = 'IN_PROGRESS', owner = ?, lease_until = now() + make_interval(secs => ?),
+                response_status = NULL, response_body = NULL, created_at = now(), expires_at = now() + make_interval(hours => ?)
+            WHERE idempotency_key = ?
+              AND (expires_at < now() OR (status = 'IN_PROGRESS' AND lease_until < now() AND request_hash = ?))
+            """;
+
+    public enum Outcome { ACQUIRED, REPLAY, MISMATCH, IN_PROGRESS }
+
+    public record Claim(Outcome outcome, String key, String owner, Integer status, String body) {
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.idempotency.ttl-hours:24}")
+    private int ttlHours;
+
+    @Value("${app.idempotency.lease-seconds:180}")
+    private int leaseSeconds;
+
+    @Value("${app.idempotency.wait-timeout-ms:90000}")
+    private long waitTimeoutMs;
+
+    /**
+     * Claims {@code key} for this request, or waits for whichever node holds it to finish and returns its
+     * stored response. Gives up with {@link Outcome#IN_PROGRESS} after the wait timeout.
+     */
+    public Claim acquire(String key, String requestHash) {
+        String owner = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + waitTimeoutMs;
+        long pollMs = INITIAL_POLL_MS;
+
+        while (true) {
+            if (jdbcTemplate.update(CLAIM_SQL, key, requestHash, owner, leaseSeconds, ttlHours) == 1
+                    || jdbcTemplate.update(TAKE_OVER_SQL, requestHash, owner, leaseSeconds, ttlHours, key, requestHash) == 1) {
+                return record(new Claim(Outcome.ACQUIRED, key, owner, null, null));
+            }
+
+            List<Claim> existing = jdbcTemplate.query(
+                    "SELECT request_hash, status, response_status, response_body FROM submission_idempotency_keys WHERE idempotency_key = ?",
+                    (rs, rowNum) -> {
+                        if (!requestHash.equals(rs.getString(1))) {
+                            return new Claim(Outcome.MISMATCH, key, null, null, null);
+                        }
+                        if ("COMPLETED".equals(rs.getString(2))) {
+                            return new Claim(Outcome.REPLAY, key, null, rs.getInt(3), rs.getString(4));
+                        }
+                        return new Claim(Outcome.IN_PROGRESS, key, null, null, null);
+                    },
+                    key);
+            if (existing.isEmpty()) {
+                // released between our insert and select; try to claim it again
+                continue;
+            }
+
+            Claim claim = existing.get(0);
+            if (claim.outcome() != Outcome.IN_PROGRESS || System.currentTimeMillis() + pollMs > deadline) {
+                return record(claim);
+            }
+
+            try {
+                Thread.sleep(pollMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return record(claim);
+            }
+            pollMs = Math.min(pollMs * 2, MAX_POLL_MS);
+        }
+    }
+
+    public void complete(Claim claim, int status, String body) {
+        int updated = jdbcTemplate.update("""
+                        UPDATE submission_idempotency_keys
+                        SET status = 'COMPLETED', response_status = ?, response_body = ?, expires_at = now() + make_interval(hours => ?)
+                        WHERE idempotency_key = ? AND owner = ?
+                        """,
+                status, body, ttlHours, claim.key(), claim.owner());
+        if (updated == 0) {
+            logger.warn("Idempotency key {} was taken over before its response could be stored", claim.key());
+        }
+    }
+
+    /** Drops an in-flight claim so a retry recomputes, e.g. after a server error. */
+    public void release(Claim claim) {
+        jdbcTemplate.update("DELETE FROM submission_idempotency_keys WHERE idempotency_key = ? AND owner = ? AND status = 'IN_PROGRESS'",
+                claim.key(), claim.owner());
+    }
+
+    @Scheduled(cron = "${app.idempotency.purge-cron:0 45 * * * *}")
+    public void purgeExpired() {
+        try {
+            int purged = jdbcTemplate.update("DELETE FROM submission_idempotency_keys WHERE expires_at < now()");
+            if (purged > 0) {
+                logger.info("Purged {} expired idempotency keys", purged);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to purge expired idempotency keys: {}", e.getMessage(), e);
+        }
+    }
+
+    public static boolean isValidKey(String key) {
+        if (key == null || key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            return false;
+        }
+        return key.chars().allMatch(c -> c > 0x20 && c < 0x7f);
+    }
+
+    // evidence files are identified by name and size; hashing their content would cost as much as the upload
+    public static String requestHash(String body, List<MultipartFile> files) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(body.getBytes(StandardCharsets.UTF_8));
+            if (files != null) {
+                for (MultipartFile file : files) {
+                    digest.update(("\u0000" + file.getOriginalFilename() + "|" + file.getSize()).getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Claim record(Claim claim) {
+        meterRegistry.counter("xpose.idempotency.requests", "outcome", claim.outcome().name().toLowerCase()).increment();
+        return claim;
+    }
+}
@@ -0,0 +1,108 @@
+package com.crimereport.xpose.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Component
+public class SubmissionMetrics {
+
+    public enum Phase {
+        EVIDENCE_STORE, LANGUAGE_DETECT, TRANSLATE, ENRICHMENT, PRE_ML, READABILITY, POST_ML, PERSIST, BLOCKCHAIN
+    }
+
+    public enum Outcome {
+        ACCEPTED, REJECTED, SPAM, ERROR
+    }
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void initMetrics() {
+        Gauge.builder("xpose.submission.inflight", inFlight, AtomicInteger::get)
+                .description("Report submissions currently being processed")
+                .register(meterRegistry);
+    }
+
+    public <T> T observe(Phase phase, Supplier<T> work) {
+        return phaseObservation(phase).observe(work);
+    }
+
+    public void observe(Phase phase, Runnable work) {
+        phaseObservation(phase).observe(work);
+    }
+
+    public <T> Mono<T> observe(Phase phase, Mono<T> work) {
+        Observation parent = observationRegistry.getCurrentObservation();
+        return Mono.defer(() -> {
+            Observation observation = phaseObservation(phase).parentObservation(parent).start();
+            return work
+                    .doOnError(observation::error)
+                    .doFinally(signal -> observation.stop());
+        });
+    }
+
+    public Observation submissionStarted() {
+        inFlight.incrementAndGet();
+        return Observation.createNotStarted("xpose.submission", observationRegistry)
+                .contextualName("submit crime report")
+                .start();
+    }
+
+    public void submissionFinished(Observation observation, Outcome outcome) {
+        inFlight.decrementAndGet();
+        observation.lowCardinalityKeyValue("outcome", tagValue(outcome)).stop();
+    }
+
+    public void rejected(String phase, String reason) {
+        counter("xpose.submission.rejections", "phase", phase, "reason", reason).increment();
+    }
+
+    public void error(Phase phase) {
+        error(tagValue(phase));
+    }
+
+    public void error(String stage) {
+        counter("xpose.submission.errors", "stage", stage, null, null).increment();
+    }
+
+    private Observation phaseObservation(Phase phase) {
+        return Observation.createNotStarted("xpose.submission.phase", observationRegistry)
+                .contextualName("submission " + tagValue(phase))
+                .lowCardinalityKeyValue("phase", tagValue(phase));
+    }
+
+    private Counter counter(String name, String tag1, String value1, String tag2, String value2) {
+        String id = name + "|" + value1 + "|" + value2;
+        return counters.computeIfAbsent(id, key -> {
+            Counter.Builder builder = Counter.builder(name).tag(tag1, value1);
+            if (tag2 != null) {
+                builder.tag(tag2, value2);
+            }
+            return builder.register(meterRegistry);
+        });
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,31 @@
+package com.crimereport.xpose.storage;
+
+public class BlobInfo {
+    private final String key;
+    private final long size;
+    private final long lastModified;
+    private final String contentHash;
+
+    public BlobInfo(String key, long size, long lastModified, String contentHash) {
+        this.key = key;
+        this.size = size;
+        this.lastModified = lastModified;
+        this.contentHash = contentHash;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+}
@@ -0,0 +1,50 @@
+package com.crimereport.xpose.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface BlobStore {
+
+    String EVIDENCE = "evidence";
+    String POLICE_PROOFS = "police-proofs";
+    String PROFILES = "profiles";
+
+    void put(String namespace, String key, InputStream content, long length, String contentHash) throws IOException;
+
+    // The source file is consumed: implementations may move it into place or delete it after upload.
+    void put(String namespace, String key, Path source) throws IOException;
+
+    Optional<BlobInfo> stat(String namespace, String key) throws IOException;
+
+    // end is inclusive; a negative end reads to the end of the blob.
+    InputStream open(String namespace, String key, long start, long end) throws IOException;
+
+    default InputStream open(String namespace, String key) throws IOException {
+        return open(namespace, key, 0, -1);
+    }
+
+    Optional<Path> localPath(String namespace, String key);
+
+    boolean delete(String namespace, String key) throws IOException;
+
+    static boolean isValidKey(String key) {
+        if (key == null || key.isEmpty() || key.length() > 255 || key.startsWith(".")) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == '/' || c == '\\' || c < 0x20 || c == 0x7f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static void checkKey(String key) {
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.crimereport.xpose.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public class LocalBlobStore implements BlobStore {
+
+    private final Map<String, Path> roots;
+
+    public LocalBlobStore(Map<String, Path> roots) {
+        this.roots = Map.copyOf(roots);
+    }
+
+    @Override
+    public void put(String namespace, String key, InputStream content, long length, String contentHash)
+            throws IOException {
+        Path target = shardedPath(namespace, key);
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling("." + UUID.randomUUID() + ".tmp");
+        try {
+            MessageDigest digest = contentHash != null ? sha256Digest() : null;
+            long copied = Files.copy(digest != null ? new DigestInputStream(content, digest) : content, temp);
+            if (length >= 0 && copied != length) {
+                throw new IllegalArgumentException("Blob length mismatch: expected " + length + " bytes, got " + copied);
+            }
+            if (digest != null && !HexFormat.of().formatHex(digest.digest()).equalsIgnoreCase(contentHash)) {
+                throw new IllegalArgumentException("Blob checksum mismatch");
+            }
+            moveIntoPlace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void put(String namespace, String key, Path source) throws IOException {
+        Path target = shardedPath(namespace, key);
+        Files.createDirectories(target.getParent());
+        moveIntoPlace(source, target);
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String namespace, String key) throws IOException {
+        Path path = locate(namespace, key);
+        if (path == null) {
+            return Optional.empty();
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return Optional.of(new BlobInfo(key, attributes.size(), attributes.lastModifiedTime().toMillis(), null));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public InputStream open(String namespace, String key, long start, long end) throws IOException {
+        Path path = locate(namespace, key);
+        if (path == null) {
+            throw new NoSuchFileException(namespace + "/" + key);
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        channel.position(start);
+        InputStream in = Channels.newInputStream(channel);
+        return end < 0 ? in : new RangeInputStream(in, end - start + 1);
+    }
+
+    @Override
+    public Optional<Path> localPath(String namespace, String key) {
+        return Optional.ofNullable(locate(namespace, key));
+    }
+
+    @Override
+    public boolean delete(String namespace, String key) throws IOException {
+        boolean deleted = Files.deleteIfExists(shardedPath(namespace, key));
+        return Files.deleteIfExists(legacyPath(namespace, key)) || deleted;
+    }
+
+    // Keys of regular blobs last modified before the cutoff. The stream must be closed by the caller.
+    public Stream<String> listOlderThan(String namespace, Instant cutoff) throws IOException {
+        Path root = root(namespace);
+        if (!Files.isDirectory(root)) {
+            return Stream.empty();
+        }
+        return Files.find(root, 3, (path, attributes) -> attributes.isRegularFile()
+                        && attributes.lastModifiedTime().toInstant().isBefore(cutoff)
+                        && isBlobPath(root, path))
+                .map(path -> path.getFileName().toString());
+    }
+
+    Path shardedPath(String namespace, String key) {
+        BlobStore.checkKey(key);
+        String hash = shardHash(key);
+        return root(namespace).resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(key);
+    }
+
+    private Path legacyPath(String namespace, String key) {
+        BlobStore.checkKey(key);
+        return root(namespace).resolve(key);
+    }
+
+    private Path locate(String namespace, String key) {
+        if (!BlobStore.isValidKey(key)) {
+            return null;
+        }
+        Path sharded = shardedPath(namespace, key);
+        if (Files.isRegularFile(sharded)) {
+            return sharded;
+        }
+        Path legacy = legacyPath(namespace, key);
+        return Files.isRegularFile(legacy) ? legacy : null;
+    }
+
+    private boolean isBlobPath(Path root, Path path) {
+        Path relative = root.relativize(path);
+        String name = path.getFileName().toString();
+        if (!BlobStore.isValidKey(name)) {
+            return false;
+        }
+        if (relative.getNameCount() == 1) {
+            return true;
+        }
+        return relative.getNameCount() == 3 && relative.getName(0).toString().length() == 2
+                && relative.getName(1).toString().length() == 2;
+    }
+
+    private Path root(String namespace) {
+        Path root = roots.get(namespace);
+        if (root == null) {
+            throw new IllegalArgumentException("Unknown namespace: " + namespace);
+        }
+        return root;
+    }
+
+    private void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // Shard on the part of the key before the first dot so derivatives land next to their original.
+    private static String shardHash(String key) {
+        int dot = key.indexOf('.');
+        String stem = dot > 0 ? key.substring(0, dot) : key;
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return HexFormat.of().formatHex(digest.digest(stem.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class RangeInputStream extends FilterInputStream {
+        private long remaining;
+
+        private RangeInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.crimereport.xpose.storage;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+public class S3BlobStore implements BlobStore {
+
+    private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+    private static final String HASH_METADATA = "x-amz-meta-sha256";
+    private static final DateTimeFormatter AMZ_DATE = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final DateTimeFormatter AMZ_DAY = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final URI endpoint;
+    private final String region;
+    private final String bucket;
+    private final String accessKey;
+    private final String secretKey;
+    private final String prefix;
+    private final Duration requestTimeout;
+    private final HttpClient httpClient;
+
+    public S3BlobStore(URI endpoint, String region, String bucket, String accessKey, String secretKey,
+                       String prefix, Duration connectTimeout, Duration requestTimeout) {
+        this.endpoint = endpoint;
+        this.region = region;
+        this.bucket = bucket;
+        this.accessKey = accessKey;
+        this.secretKey = secretKey;
+        this.prefix = prefix == null ? "" : prefix;
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @Override
+    public void put(String namespace, String key, InputStream content, long length, String contentHash)
+            throws IOException {
+        Map<String, String> headers = new TreeMap<>();
+        if (contentHash != null) {
+            headers.put(HASH_METADATA, contentHash);
+        }
+        HttpRequest.BodyPublisher body = HttpRequest.BodyPublishers.fromPublisher(
+                HttpRequest.BodyPublishers.ofInputStream(() -> content), length);
+        HttpResponse<Void> response = send("PUT", namespace, key, headers, body, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("S3 PUT " + namespace + "/" + key + " failed with status " + response.statusCode());
+        }
+    }
+
+    @Override
+    public void put(String namespace, String key, Path source) throws IOException {
+        String hash = sha256(source);
+        try (InputStream in = Files.newInputStream(source)) {
+            put(namespace, key, in, Files.size(source), hash);
+        }
+        Files.deleteIfExists(source);
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String namespace, String key) throws IOException {
+        HttpResponse<Void> response = send("HEAD", namespace, key, Map.of(),
+                HttpRequest.BodyPublishers.noBody(), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 404) {
+            return Optional.empty();
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("S3 HEAD " + namespace + "/" + key + " failed with status " + response.statusCode());
+        }
+
+        long size = response.headers().firstValueAsLong("content-length").orElse(0);
+        long lastModified = response.headers().firstValue("last-modified")
+                .map(value -> ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli())
+                .orElse(0L);
+        String hash = response.headers().firstValue(HASH_METADATA)
+                .or(() -> response.headers().firstValue("etag").map(etag -> etag.replace("\"", "")))
+                .orElse(null);
+        return Optional.of(new BlobInfo(key, size, lastModified, hash));
+    }
+
+    @Override
+    public InputStream open(String namespace, String key, long start, long end) throws IOException {
+        Map<String, String> headers = new TreeMap<>();
+        if (start > 0 || end >= 0) {
+            headers.put("range", "bytes=" + start + "-" + (end >= 0 ? end : ""));
+        }
+        HttpResponse<InputStream> response = send("GET", namespace, key, headers,
+                HttpRequest.BodyPublishers.noBody(), HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() == 404) {
+            response.body().close();
+            throw new NoSuchFileException(namespace + "/" + key);
+        }
+        if (response.statusCode() / 100 != 2) {
+            response.body().close();
+            throw new IOException("S3 GET " + namespace + "/" + key + " failed with status " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    @Override
+    public Optional<Path> localPath(String namespace, String key) {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean delete(String namespace, String key) throws IOException {
+        HttpResponse<Void> response = send("DELETE", namespace, key, Map.of(),
+                HttpRequest.BodyPublishers.noBody(), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 404) {
+            return false;
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("S3 DELETE " + namespace + "/" + key + " failed with status " + response.statusCode());
+        }
+        return true;
+    }
+
+    private <T> HttpResponse<T> send(String method, String namespace, String key, Map<String, String> extraHeaders,
+                                     HttpRequest.BodyPublisher body, HttpResponse.BodyHandler<T> handler)
+            throws IOException {
+        BlobStore.checkKey(key);
+        String path = "/" + bucket + "/" + uriEncode(prefix + namespace + "/" + key, false);
+        URI uri = URI.create(endpoint.toString().replaceAll("/+$", "") + path);
+
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        String amzDate = AMZ_DATE.format(now);
+        String scope = AMZ_DAY.format(now) + "/" + region + "/s3/aws4_request";
+
+        Map<String, String> headers = new TreeMap<>(extraHeaders);
+        headers.put("host", uri.getRawAuthority());
+        headers.put("x-amz-content-sha256", UNSIGNED_PAYLOAD);
+        headers.put("x-amz-date", amzDate);
+
+        StringBuilder canonicalHeaders = new StringBuilder();
+        headers.forEach((name, value) -> canonicalHeaders.append(name).append(':').append(value.trim()).append('\n'));
+        String signedHeaders = String.join(";", headers.keySet());
+
+        String canonicalRequest = method + "\n" + path + "\n\n" + canonicalHeaders + "\n"
+                + signedHeaders + "\n" + UNSIGNED_PAYLOAD;
+        String stringToSign = "AWS4-HMAC-SHA256\n" + amzDate + "\n" + scope + "\n"
+                + HexFormat.of().formatHex(sha256(canonicalRequest.getBytes(StandardCharsets.UTF_8)));
+
+        byte[] signingKey = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), AMZ_DAY.format(now));
+        signingKey = hmac(signingKey, region);
+        signingKey = hmac(signingKey, "s3");
+        signingKey = hmac(signingKey, "aws4_request");
+        String signature = HexFormat.of().formatHex(hmac(signingKey, stringToSign));
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .method(method, body)
+                .header("Authorization", "AWS4-HMAC-SHA256 Credential=" + accessKey + "/" + scope
+                        + ", SignedHeaders=" + signedHeaders + ", Signature=" + signature);
+        headers.forEach((name, value) -> {
+            if (!name.equals("host")) {
+                request.header(name, value);
+            }
+        });
+
+        try {
+            return httpClient.send(request.build(), handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while calling object storage", e);
+        }
+    }
+
+    private static String uriEncode(String value, boolean encodeSlash) {
+        StringBuilder encoded = new StringBuilder();
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xff);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~' || (c == '/' && !encodeSlash)) {
+                encoded.append(c);
+            } else {
+                encoded.append('%').append(String.format("%02X", b & 0xff));
+            }
+        }
+        return encoded.toString();
+    }
+
+    private static byte[] hmac(byte[] key, String data) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] sha256(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String sha256(Path file) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            try (InputStream in = Files.newInputStream(file)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
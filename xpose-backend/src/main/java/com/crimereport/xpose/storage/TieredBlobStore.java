@@ -0,0 +1,85 @@
+package com.crimereport.xpose.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public class TieredBlobStore implements BlobStore {
+
+    private final LocalBlobStore hot;
+    private final BlobStore cold;
+
+    public TieredBlobStore(LocalBlobStore hot, BlobStore cold) {
+        this.hot = hot;
+        this.cold = cold;
+    }
+
+    public LocalBlobStore getHot() {
+        return hot;
+    }
+
+    public BlobStore getCold() {
+        return cold;
+    }
+
+    @Override
+    public void put(String namespace, String key, InputStream content, long length, String contentHash)
+            throws IOException {
+        hot.put(namespace, key, content, length, contentHash);
+    }
+
+    @Override
+    public void put(String namespace, String key, Path source) throws IOException {
+        hot.put(namespace, key, source);
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String namespace, String key) throws IOException {
+        Optional<BlobInfo> info = hot.stat(namespace, key);
+        return info.isPresent() ? info : cold.stat(namespace, key);
+    }
+
+    @Override
+    public InputStream open(String namespace, String key, long start, long end) throws IOException {
+        try {
+            return hot.open(namespace, key, start, end);
+        } catch (NoSuchFileException e) {
+            return cold.open(namespace, key, start, end);
+        }
+    }
+
+    @Override
+    public Optional<Path> localPath(String namespace, String key) {
+        return hot.localPath(namespace, key);
+    }
+
+    @Override
+    public boolean delete(String namespace, String key) throws IOException {
+        boolean deleted = hot.delete(namespace, key);
+        return cold.delete(namespace, key) || deleted;
+    }
+
+    // Copies a hot blob to the cold tier, verifies it landed, then drops the hot copy.
+    public boolean demote(String namespace, String key) throws IOException {
+        Optional<Path> source = hot.localPath(namespace, key);
+        if (source.isEmpty()) {
+            return false;
+        }
+
+        Path path = source.get();
+        long size = Files.size(path);
+        String hash = S3BlobStore.sha256(path);
+        try (InputStream in = Files.newInputStream(path)) {
+            cold.put(namespace, key, in, size, hash);
+        }
+
+        Optional<BlobInfo> copied = cold.stat(namespace, key);
+        if (copied.isEmpty() || copied.get().getSize() != size) {
+            throw new IOException("Cold copy of " + namespace + "/" + key + " could not be verified");
+        }
+        return hot.delete(namespace, key);
+    }
+}
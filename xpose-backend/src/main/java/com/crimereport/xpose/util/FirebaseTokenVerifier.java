@@ -0,0 +1,139 @@
+package com.crimereport.xpose.util;
+
+import com.crimereport.xpose.config.OutboundHttpClientFactory;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.PublicKey;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Verifies Firebase Authentication ID tokens (the app signs users in with Firebase phone auth) against
+ * Google's published signing certificates, following the checks in the Firebase "verify ID tokens" guide.
+ */
+@Component
+public class FirebaseTokenVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(FirebaseTokenVerifier.class);
+
+    private static final String CERTS_URL =
+            "https://www.googleapis.com/robot/v1/metadata/x509/securetoken@system.gserviceaccount.com";
+    private static final Duration DEFAULT_CERT_TTL = Duration.ofHours(1);
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+    private record SigningKeys(Map<String, PublicKey> byKeyId, Instant expiresAt, Instant fetchedAt) {
+    }
+
+    private final RestTemplate restTemplate;
+
+    @Value("${app.firebase.project-id}")
+    private String projectId;
+
+    private volatile SigningKeys signingKeys = new SigningKeys(Map.of(), Instant.EPOCH, Instant.EPOCH);
+
+    public FirebaseTokenVerifier(OutboundHttpClientFactory httpClientFactory) {
+        this.restTemplate = httpClientFactory.restTemplate(OutboundHttpClientFactory.FIREBASE);
+    }
+
+    /** Returns the verified token's claims; throws {@link JwtException} if the token is not valid for this project. */
+    public Claims verify(String idToken) {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        if (!"RS256".equals(header.getAlgorithm())) {
+                            throw new JwtException("Unexpected token algorithm " + header.getAlgorithm());
+                        }
+                        return signingKey(header.getKeyId());
+                    }
+                })
+                .requireIssuer("https://securetoken.google.com/" + projectId)
+                .requireAudience(projectId)
+                .setAllowedClockSkewSeconds(60)
+                .build()
+                .parseClaimsJws(idToken)
+                .getBody();
+
+        if (claims.getSubject() == null || claims.getSubject().isBlank()) {
+            throw new JwtException("Token has no subject");
+        }
+        return claims;
+    }
+
+    private PublicKey signingKey(String keyId) {
+        SigningKeys keys = signingKeys;
+        Instant now = Instant.now();
+        // Google rotates keys; an unknown kid triggers an early refresh, at most once a minute
+        if (now.isAfter(keys.expiresAt())
+                || (!keys.byKeyId().containsKey(keyId) && now.isAfter(keys.fetchedAt().plus(MIN_REFRESH_INTERVAL)))) {
+            keys = refreshSigningKeys();
+        }
+        PublicKey key = keys.byKeyId().get(keyId);
+        if (key == null) {
+            throw new JwtException("Unknown signing key " + keyId);
+        }
+        return key;
+    }
+
+    private synchronized SigningKeys refreshSigningKeys() {
+        SigningKeys current = signingKeys;
+        if (Instant.now().isBefore(current.fetchedAt().plus(MIN_REFRESH_INTERVAL))) {
+            return current;
+        }
+        try {
+            ResponseEntity<Map<String, String>> response = restTemplate.exchange(CERTS_URL, HttpMethod.GET, null,
+                    new ParameterizedTypeReference<>() {});
+            CertificateFactory factory = CertificateFactory.getInstance("X.509");
+            Map<String, PublicKey> byKeyId = new HashMap<>();
+            if (response.getBody() != null) {
+                for (Map.Entry<String, String> entry : response.getBody().entrySet()) {
+                    byKeyId.put(entry.getKey(), factory.generateCertificate(
+                            new ByteArrayInputStream(entry.getValue().getBytes(StandardCharsets.US_ASCII))).getPublicKey());
+                }
+            }
+            long maxAge = response.getHeaders().getCacheControl() != null
+                    ? parseMaxAge(response.getHeaders().getCacheControl()) : -1;
+            Instant now = Instant.now();
+            signingKeys = new SigningKeys(byKeyId, now.plus(maxAge > 0 ? Duration.ofSeconds(maxAge) : DEFAULT_CERT_TTL), now);
+            logger.debug("Loaded {} Firebase signing keys", byKeyId.size());
+        } catch (CertificateException | RuntimeException e) {
+            logger.warn("Failed to refresh Firebase signing keys: {}", e.getMessage());
+            // keep serving the previous keys and retry after the minimum interval
+            signingKeys = new SigningKeys(current.byKeyId(), current.expiresAt(), Instant.now());
+        }
+        return signingKeys;
+    }
+
+    private static long parseMaxAge(String cacheControl) {
+        for (String directive : cacheControl.split(",")) {
+            String trimmed = directive.trim();
+            if (trimmed.startsWith("max-age=")) {
+                try {
+                    return Long.parseLong(trimmed.substring("max-age=".length()));
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,256 @@
+package com.crimereport.xpose.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class KeywordMatcher {
+
+    private final String[] categories;
+    private final Map<String, Integer> categoryIndex = new LinkedHashMap<>();
+    private final String[] terms;
+    private final int[] termLengths;
+    private final int[][] termCategories;
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    private final int[] terminal;
+    private final int[] outputLink;
+    private final int maxTermLength;
+
+    public KeywordMatcher(Map<String, ? extends Collection<String>> termsByCategory) {
+        categories = termsByCategory.keySet().toArray(String[]::new);
+        for (int i = 0; i < categories.length; i++) {
+            categoryIndex.put(categories[i], i);
+        }
+
+        Map<String, List<Integer>> termToCategories = new LinkedHashMap<>();
+        termsByCategory.forEach((category, values) -> {
+            for (String value : values) {
+                String term = normalize(value);
+                if (!term.isEmpty()) {
+                    List<Integer> owners = termToCategories.computeIfAbsent(term, key -> new ArrayList<>());
+                    if (!owners.contains(categoryIndex.get(category))) {
+                        owners.add(categoryIndex.get(category));
+                    }
+                }
+            }
+        });
+
+        terms = termToCategories.keySet().toArray(String[]::new);
+        termLengths = new int[terms.length];
+        termCategories = new int[terms.length][];
+        int longest = 0;
+        for (int t = 0; t < terms.length; t++) {
+            termLengths[t] = terms[t].length();
+            termCategories[t] = termToCategories.get(terms[t]).stream().mapToInt(Integer::intValue).toArray();
+            longest = Math.max(longest, termLengths[t]);
+        }
+        maxTermLength = longest;
+
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> terminals = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminals.add(-1);
+        for (int t = 0; t < terms.length; t++) {
+            int node = 0;
+            for (char c : terms[t].toCharArray()) {
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    terminals.add(-1);
+                    trie.get(node).put(c, next);
+                }
+                node = next;
+            }
+            terminals.set(node, t);
+        }
+
+        int size = trie.size();
+        edgeChars = new char[size][];
+        edgeTargets = new int[size][];
+        terminal = new int[size];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = trie.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[node][i] = edge.getKey();
+                edgeTargets[node][i++] = edge.getValue();
+            }
+            terminal[node] = terminals.get(node);
+        }
+
+        failure = new int[size];
+        outputLink = new int[size];
+        Arrays.fill(outputLink, -1);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+                int fallback = failure[node];
+                while (fallback != 0 && next(fallback, c) < 0) {
+                    fallback = failure[fallback];
+                }
+                int target = next(fallback, c);
+                failure[child] = target >= 0 && target != child ? target : 0;
+                outputLink[child] = terminal[failure[child]] >= 0 ? failure[child] : outputLink[failure[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    public Result match(CharSequence text) {
+        Result result = new Result();
+        if (text == null || terms.length == 0) {
+            if (text != null) {
+                result.wordCount = countWords(text);
+            }
+            return result;
+        }
+
+        boolean[] startsWord = new boolean[maxTermLength + 1];
+        int state = 0;
+        int position = 0;
+        char previous = ' ';
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            if (c == ' ' && previous == ' ') {
+                continue;
+            }
+            if (c != ' ' && previous == ' ') {
+                result.wordCount++;
+            }
+            if (!isWordChar(c)) {
+                collect(state, position, startsWord, result);
+            }
+            startsWord[position % startsWord.length] = !isWordChar(previous);
+
+            while (state != 0 && next(state, c) < 0) {
+                state = failure[state];
+            }
+            int target = next(state, c);
+            state = target >= 0 ? target : 0;
+            position++;
+            previous = c;
+        }
+        collect(state, position, startsWord, result);
+        return result;
+    }
+
+    public List<String> categories() {
+        return List.of(categories);
+    }
+
+    private void collect(int state, int end, boolean[] startsWord, Result result) {
+        int node = terminal[state] >= 0 ? state : outputLink[state];
+        while (node > 0) {
+            int term = terminal[node];
+            int start = end - termLengths[term];
+            if (start >= 0 && startsWord[start % startsWord.length]) {
+                result.hit(term);
+            }
+            node = outputLink[node];
+        }
+    }
+
+    private int next(int node, char c) {
+        int index = Arrays.binarySearch(edgeChars[node], c);
+        return index >= 0 ? edgeTargets[node][index] : -1;
+    }
+
+    private static char fold(char c) {
+        return Character.isWhitespace(c) ? ' ' : Character.toLowerCase(c);
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || Character.getType(c) == Character.NON_SPACING_MARK
+                || Character.getType(c) == Character.COMBINING_SPACING_MARK;
+    }
+
+    private static int countWords(CharSequence text) {
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            boolean whitespace = Character.isWhitespace(text.charAt(i));
+            if (!whitespace && !inWord) {
+                words++;
+            }
+            inWord = !whitespace;
+        }
+        return words;
+    }
+
+    private static String normalize(String term) {
+        StringBuilder normalized = new StringBuilder(term.length());
+        char previous = ' ';
+        for (char c : term.trim().toCharArray()) {
+            char folded = fold(c);
+            if (folded != ' ' || previous != ' ') {
+                normalized.append(folded);
+            }
+            previous = folded;
+        }
+        return normalized.toString().trim();
+    }
+
+    public final class Result {
+
+        private boolean[] matched;
+        private int[] counts;
+        private int wordCount;
+
+        private void hit(int term) {
+            if (matched == null) {
+                matched = new boolean[terms.length];
+                counts = new int[categories.length];
+            }
+            if (!matched[term]) {
+                matched[term] = true;
+                for (int category : termCategories[term]) {
+                    counts[category]++;
+                }
+            }
+        }
+
+        public int count(String category) {
+            Integer index = categoryIndex.get(category);
+            return index == null || counts == null ? 0 : counts[index];
+        }
+
+        public boolean contains(String category) {
+            return count(category) > 0;
+        }
+
+        public List<String> terms(String category) {
+            Integer index = categoryIndex.get(category);
+            if (index == null || matched == null) {
+                return Collections.emptyList();
+            }
+            List<String> hits = new ArrayList<>();
+            for (int t = 0; t < terms.length; t++) {
+                if (matched[t] && Arrays.stream(termCategories[t]).anyMatch(c -> c == index)) {
+                    hits.add(terms[t]);
+                }
+            }
+            return hits;
+        }
+
+        public int wordCount() {
+            return wordCount;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.crimereport.xpose.util;
+
+public record SimHash(long value, int words) {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    public static SimHash of(CharSequence text) {
+        if (text == null) {
+            return new SimHash(0L, 0);
+        }
+
+        int[] weights = new int[Long.SIZE];
+        int words = 0;
+        long previous = 0L;
+        long token = FNV_OFFSET;
+        boolean inWord = false;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? Character.toLowerCase(text.charAt(i)) : ' ';
+            if (isWordChar(c)) {
+                token = (token ^ c) * FNV_PRIME;
+                inWord = true;
+                continue;
+            }
+            if (!inWord) {
+                continue;
+            }
+            add(weights, mix(token));
+            if (words > 0) {
+                add(weights, mix(previous * 31 + token));
+            }
+            words++;
+            previous = token;
+            token = FNV_OFFSET;
+            inWord = false;
+        }
+
+        long value = 0L;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (weights[bit] > 0) {
+                value |= 1L << bit;
+            }
+        }
+        return new SimHash(value, words);
+    }
+
+    public int distance(SimHash other) {
+        return Long.bitCount(value ^ other.value);
+    }
+
+    public int band(int index, int bands) {
+        int bits = Long.SIZE / bands;
+        return (int) ((value >>> (index * bits)) & ((1L << bits) - 1));
+    }
+
+    private static void add(int[] weights, long feature) {
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            weights[bit] += ((feature >>> bit) & 1L) != 0 ? 1 : -1;
+        }
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || Character.getType(c) == Character.NON_SPACING_MARK
+                || Character.getType(c) == Character.COMBINING_SPACING_MARK;
+    }
+}
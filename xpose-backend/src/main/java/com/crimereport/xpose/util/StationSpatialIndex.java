@@ -0,0 +1,95 @@
+package com.crimereport.xpose.util;
+
+import com.crimereport.xpose.models.PoliceStation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class StationSpatialIndex {
+
+    private static final double EARTH_RADIUS_METERS = 6371e3;
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+
+    private final double cellSizeDegrees;
+    private final Map<Long, List<PoliceStation>> cells = new HashMap<>();
+    private final Map<String, PoliceStation> stationsByName = new HashMap<>();
+    private int indexedCount;
+
+    public StationSpatialIndex(List<PoliceStation> stations, double cellSizeDegrees) {
+        this.cellSizeDegrees = cellSizeDegrees;
+        for (PoliceStation station : stations) {
+            if (station.getName() != null) {
+                stationsByName.putIfAbsent(station.getName().trim().toLowerCase(Locale.ROOT), station);
+            }
+            if (station.getLatitude() == null || station.getLongitude() == null) {
+                continue;
+            }
+            long key = cellKey(cellIndex(station.getLatitude()), cellIndex(station.getLongitude()));
+            cells.computeIfAbsent(key, k -> new ArrayList<>()).add(station);
+            indexedCount++;
+        }
+    }
+
+    public PoliceStation findNearest(double lat, double lng, double maxDistanceMeters) {
+        double latSpan = maxDistanceMeters / METERS_PER_DEGREE_LAT;
+        double cosLat = Math.max(Math.cos(Math.toRadians(lat)), 0.01);
+        double lngSpan = maxDistanceMeters / (METERS_PER_DEGREE_LAT * cosLat);
+
+        int minLatCell = cellIndex(lat - latSpan);
+        int maxLatCell = cellIndex(lat + latSpan);
+        int minLngCell = cellIndex(lng - lngSpan);
+        int maxLngCell = cellIndex(lng + lngSpan);
+
+        PoliceStation best = null;
+        double bestDistance = maxDistanceMeters;
+
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                List<PoliceStation> bucket = cells.get(cellKey(latCell, lngCell));
+                if (bucket == null) continue;
+
+                for (PoliceStation station : bucket) {
+                    double distance = distanceMeters(lat, lng, station.getLatitude(), station.getLongitude());
+                    if (distance <= bestDistance) {
+                        bestDistance = distance;
+                        best = station;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    public PoliceStation findByName(String name) {
+        if (name == null) return null;
+        return stationsByName.get(name.trim().toLowerCase(Locale.ROOT));
+    }
+
+    public int size() {
+        return indexedCount;
+    }
+
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double lat1Rad = Math.toRadians(lat1);
+        double lat2Rad = Math.toRadians(lat2);
+        double deltaLat = Math.toRadians(lat2 - lat1);
+        double deltaLng = Math.toRadians(lng2 - lng1);
+
+        double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2) +
+                Math.cos(lat1Rad) * Math.cos(lat2Rad) *
+                        Math.sin(deltaLng / 2) * Math.sin(deltaLng / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return EARTH_RADIUS_METERS * c;
+    }
+
+    private int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / cellSizeDegrees);
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+}
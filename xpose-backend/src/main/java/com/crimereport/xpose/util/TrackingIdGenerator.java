@@ -39,7 +39,7 @@ public class TrackingIdGenerator {
                 + checksum;
     }
 
-    private static char checksum(char[] core) {
+    static char checksum(char[] core) {
         int sum = 0;
         for (char c : core) {
             for (int i = 0; i < ALPHABET_LEN; i++) {
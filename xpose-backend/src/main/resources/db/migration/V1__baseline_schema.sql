@@ -0,0 +1,188 @@
+-- Schema as previously managed by hibernate ddl-auto=update. Every statement is idempotent so databases created by
+-- ddl-auto (baselined at version 0) pick up only what they are missing.
+
+CREATE TABLE IF NOT EXISTS users (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    created_at timestamp(6),
+    email varchar(255) UNIQUE,
+    mobile varchar(255) UNIQUE,
+    name varchar(255),
+    profile_url varchar(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS police_stations (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    latitude float(53),
+    longitude float(53),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    address varchar(255),
+    name varchar(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS authorities (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    created_at timestamp(6),
+    station_id bigint,
+    updated_at timestamp(6),
+    email varchar(255) NOT NULL UNIQUE,
+    name varchar(255),
+    password varchar(255) NOT NULL,
+    phone_number varchar(255),
+    role varchar(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS crime_categories (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    description varchar(1000),
+    name varchar(255) NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS crime_types (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    requires_immediate_attention boolean NOT NULL,
+    category_id bigint NOT NULL,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    description varchar(1000),
+    name varchar(255) NOT NULL UNIQUE,
+    priority varchar(255) NOT NULL CHECK (priority IN ('LOW','MEDIUM','HIGH')),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS crime_reports (
+    id varchar(32) NOT NULL,
+    crime_category_id bigint NOT NULL,
+    crime_type_id bigint,
+    original_description TEXT NOT NULL,
+    attachments jsonb,
+    latitude float(53),
+    longitude float(53),
+    address varchar(255),
+    city varchar(255),
+    state varchar(255),
+    country varchar(255),
+    submitted_at timestamp(6) NOT NULL,
+    is_spam boolean,
+    is_toxic boolean,
+    is_hate_speech boolean,
+    urgency_level varchar(255) CHECK (urgency_level IN ('LOW','MEDIUM','HIGH','CRITICAL')),
+    confidence_score float(53),
+    police_station varchar(255),
+    needs_review boolean,
+    assigned_officer_id bigint,
+    admin_status varchar(255) CHECK (admin_status IN ('PENDING','APPROVED','ASSIGNED','REJECTED')),
+    police_status varchar(255) CHECK (police_status IN ('NOT_VIEWED','VIEWED','IN_PROGRESS','ACTION_TAKEN','RESOLVED','CLOSED')),
+    police_feedback TEXT,
+    police_action_proof jsonb,
+    action_taken_at timestamp(6),
+    action_taken_by bigint,
+    reviewed_at timestamp(6),
+    reviewed_by_id bigint,
+    report_quality varchar(255) CHECK (report_quality IN ('LOW','MEDIUM','HIGH')),
+    spam_score float(53),
+    toxicity_scores jsonb,
+    shap_explanation jsonb,
+    translated_description TEXT,
+    readability_enhanced_description TEXT,
+    language_detected varchar(10),
+    status varchar(255) CHECK (status IN ('ACCEPTED','REJECTED','PENDING_REVIEW')),
+    word_count integer,
+    char_count integer,
+    processing_phase varchar(255) CHECK (processing_phase IN ('PRE_PROCESSING','GEMINI_ENRICHED','FINALIZED')),
+    rejection_reason TEXT,
+    blockchain_hash varchar(255),
+    blockchain_tx_id varchar(255),
+    blockchain_timestamp timestamp(6),
+    duplicate_of varchar(32),
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE crime_reports ADD COLUMN IF NOT EXISTS duplicate_of varchar(32);
+
+CREATE TABLE IF NOT EXISTS notifications (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    is_read boolean NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    user_id bigint NOT NULL,
+    message TEXT NOT NULL,
+    title varchar(255) NOT NULL,
+    type varchar(255) NOT NULL CHECK (type IN ('WELCOME_NEW_USER','PROFILE_UPDATED')),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_user_read_created ON notifications (user_id, is_read, created_at);
+
+CREATE TABLE IF NOT EXISTS notification_counters (
+    user_id bigint NOT NULL,
+    unread_count bigint NOT NULL,
+    PRIMARY KEY (user_id)
+);
+
+CREATE TABLE IF NOT EXISTS assignment_jobs (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    status varchar(255) NOT NULL CHECK (status IN ('RUNNING','COMPLETED','FAILED','CANCELLED','INTERRUPTED')),
+    chunk_size integer NOT NULL,
+    max_distance_meters integer NOT NULL,
+    last_report_id varchar(32),
+    total_candidates bigint,
+    processed bigint NOT NULL,
+    assigned bigint NOT NULL,
+    skipped bigint NOT NULL,
+    error_message TEXT,
+    started_at timestamp(6) NOT NULL,
+    updated_at timestamp(6),
+    finished_at timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS evidence_uploads (
+    id varchar(36) NOT NULL,
+    status varchar(255) NOT NULL CHECK (status IN ('IN_PROGRESS','COMPLETED','CONSUMED')),
+    original_file_name varchar(255),
+    total_size bigint NOT NULL,
+    received_bytes bigint NOT NULL,
+    expected_sha256 varchar(64),
+    stored_file_name varchar(255),
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS report_stats_rollups (
+    granularity varchar(8) NOT NULL,
+    dimension varchar(32) NOT NULL,
+    bucket_start timestamp(6) NOT NULL,
+    dimension_value varchar(255) NOT NULL,
+    report_count bigint NOT NULL,
+    PRIMARY KEY (granularity, dimension, bucket_start, dimension_value)
+);
+
+CREATE TABLE IF NOT EXISTS report_heat_cells (
+    zoom integer NOT NULL,
+    cell_x integer NOT NULL,
+    cell_y integer NOT NULL,
+    day date NOT NULL,
+    crime_category_id bigint NOT NULL,
+    report_count bigint NOT NULL,
+    PRIMARY KEY (zoom, cell_x, cell_y, day, crime_category_id)
+);
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk10q6f9bj935jor8okbfvfbu1r') THEN
+        ALTER TABLE authorities ADD CONSTRAINT FK10q6f9bj935jor8okbfvfbu1r FOREIGN KEY (station_id) REFERENCES police_stations;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk66pjd680mlmlcu4j6vxgw3j9') THEN
+        ALTER TABLE crime_types ADD CONSTRAINT FK66pjd680mlmlcu4j6vxgw3j9 FOREIGN KEY (category_id) REFERENCES crime_categories;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk9y21adhxn0ayjhfocscqox7bh') THEN
+        ALTER TABLE notifications ADD CONSTRAINT FK9y21adhxn0ayjhfocscqox7bh FOREIGN KEY (user_id) REFERENCES users;
+    END IF;
+END $$;
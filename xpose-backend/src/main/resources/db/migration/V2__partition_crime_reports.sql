@@ -0,0 +1,97 @@
+-- crime_reports becomes LIST-partitioned on "archived":
+--   crime_reports_hot     (archived = false) RANGE-partitioned by month on submitted_at
+--   crime_reports_archive (archived = true)  RANGE-partitioned by year, TOAST-compressed aggressively
+-- Setting archived = true moves a row into the archive partitions; lookups by id still go through crime_reports.
+
+ALTER TABLE crime_reports RENAME TO crime_reports_unpartitioned;
+ALTER INDEX IF EXISTS crime_reports_pkey RENAME TO crime_reports_unpartitioned_pkey;
+
+CREATE TABLE crime_reports (
+    LIKE crime_reports_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING STORAGE INCLUDING COMPRESSION,
+    archived boolean NOT NULL DEFAULT false
+) PARTITION BY LIST (archived);
+
+ALTER TABLE crime_reports ADD PRIMARY KEY (id, archived, submitted_at);
+
+CREATE TABLE crime_reports_hot PARTITION OF crime_reports FOR VALUES IN (false) PARTITION BY RANGE (submitted_at);
+CREATE TABLE crime_reports_archive PARTITION OF crime_reports FOR VALUES IN (true) PARTITION BY RANGE (submitted_at);
+CREATE TABLE crime_reports_hot_default PARTITION OF crime_reports_hot DEFAULT;
+CREATE TABLE crime_reports_archive_default PARTITION OF crime_reports_archive DEFAULT;
+
+CREATE INDEX idx_crime_reports_submitted_at ON crime_reports (submitted_at);
+CREATE INDEX idx_crime_reports_assigned_officer ON crime_reports (assigned_officer_id);
+CREATE INDEX idx_crime_reports_admin_status_id ON crime_reports (admin_status, id);
+
+ALTER TABLE crime_reports ADD CONSTRAINT fk_crime_reports_action_taken_by FOREIGN KEY (action_taken_by) REFERENCES authorities;
+ALTER TABLE crime_reports ADD CONSTRAINT fk_crime_reports_assigned_officer FOREIGN KEY (assigned_officer_id) REFERENCES authorities;
+ALTER TABLE crime_reports ADD CONSTRAINT fk_crime_reports_reviewed_by FOREIGN KEY (reviewed_by_id) REFERENCES authorities;
+
+-- lz4 needs PostgreSQL 14+ built with lz4; otherwise the default pglz compression is kept
+CREATE OR REPLACE FUNCTION compress_crime_report_partition(partition_name text) RETURNS void AS $$
+DECLARE
+    col record;
+BEGIN
+    FOR col IN
+        SELECT attname FROM pg_attribute
+        WHERE attrelid = partition_name::regclass AND attnum > 0 AND NOT attisdropped
+          AND atttypid IN ('text'::regtype, 'jsonb'::regtype)
+    LOOP
+        BEGIN
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN %I SET COMPRESSION lz4', partition_name, col.attname);
+        EXCEPTION WHEN feature_not_supported OR syntax_error OR invalid_parameter_value THEN
+            RETURN;
+        END;
+    END LOOP;
+END $$ LANGUAGE plpgsql;
+
+-- creates [lower, upper) under parent; rows already sitting in the parent's default partition for that range are moved
+CREATE OR REPLACE FUNCTION create_crime_report_partition(parent text, partition_name text, lower_bound date,
+                                                         upper_bound date, storage_options text) RETURNS boolean AS $$
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN false;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING STORAGE INCLUDING COMPRESSION) %s',
+                   partition_name, parent, storage_options);
+    IF parent = 'crime_reports_archive' THEN
+        PERFORM compress_crime_report_partition(partition_name);
+    END IF;
+    EXECUTE format('WITH moved AS (DELETE FROM %I WHERE submitted_at >= %L AND submitted_at < %L RETURNING *) '
+                   'INSERT INTO %I SELECT * FROM moved',
+                   parent || '_default', lower_bound, upper_bound, partition_name);
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   parent, partition_name, lower_bound, upper_bound);
+    RETURN true;
+END $$ LANGUAGE plpgsql;
+
+-- monthly hot partitions and yearly archive partitions for every month in [from_month, to_month]
+CREATE OR REPLACE FUNCTION ensure_crime_report_partitions(from_month date, to_month date) RETURNS integer AS $$
+DECLARE
+    month date := date_trunc('month', from_month);
+    year_start date;
+    created integer := 0;
+BEGIN
+    WHILE month <= to_month LOOP
+        IF create_crime_report_partition('crime_reports_hot', 'crime_reports_' || to_char(month, 'YYYY_MM'),
+                                         month, (month + interval '1 month')::date, '') THEN
+            created := created + 1;
+        END IF;
+        year_start := date_trunc('year', month);
+        IF create_crime_report_partition('crime_reports_archive', 'crime_reports_archive_' || to_char(year_start, 'YYYY'),
+                                         year_start, (year_start + interval '1 year')::date,
+                                         'WITH (toast_tuple_target = 128, fillfactor = 100)') THEN
+            created := created + 1;
+        END IF;
+        month := (month + interval '1 month')::date;
+    END LOOP;
+    RETURN created;
+END $$ LANGUAGE plpgsql;
+
+SELECT ensure_crime_report_partitions(
+        COALESCE((SELECT MIN(submitted_at)::date FROM crime_reports_unpartitioned), CURRENT_DATE),
+        (CURRENT_DATE + interval '3 months')::date);
+
+INSERT INTO crime_reports SELECT u.*, false FROM crime_reports_unpartitioned u;
+
+DROP TABLE crime_reports_unpartitioned;
@@ -0,0 +1,31 @@
+-- descriptions, attachments and ML explanations move out of the hot crime_reports row into a 1:1 side table.
+-- No foreign key: crime_reports is partitioned and its primary key is (id, archived, submitted_at).
+
+CREATE TABLE crime_report_payloads (
+    report_id varchar(32) NOT NULL,
+    original_description TEXT NOT NULL,
+    translated_description TEXT,
+    readability_enhanced_description TEXT,
+    attachments jsonb,
+    toxicity_scores jsonb,
+    shap_explanation jsonb,
+    PRIMARY KEY (report_id)
+);
+
+SELECT compress_crime_report_partition('crime_report_payloads');
+
+INSERT INTO crime_report_payloads (report_id, original_description, translated_description,
+                                   readability_enhanced_description, attachments, toxicity_scores, shap_explanation)
+SELECT id, original_description, translated_description, readability_enhanced_description,
+       attachments, toxicity_scores, shap_explanation
+FROM crime_reports;
+
+-- dropped columns stop being read immediately; their space is reclaimed as rows are rewritten
+-- (or at once with VACUUM FULL on each partition during a maintenance window)
+ALTER TABLE crime_reports
+    DROP COLUMN original_description,
+    DROP COLUMN translated_description,
+    DROP COLUMN readability_enhanced_description,
+    DROP COLUMN attachments,
+    DROP COLUMN toxicity_scores,
+    DROP COLUMN shap_explanation;
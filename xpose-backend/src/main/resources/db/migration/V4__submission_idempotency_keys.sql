@@ -0,0 +1,15 @@
+-- one row per client-supplied Idempotency-Key on report submission; shared by every backend node
+CREATE TABLE submission_idempotency_keys (
+    idempotency_key varchar(128) NOT NULL,
+    request_hash varchar(64) NOT NULL,
+    status varchar(16) NOT NULL CHECK (status IN ('IN_PROGRESS','COMPLETED')),
+    owner varchar(64) NOT NULL,
+    lease_until timestamp(6) NOT NULL,
+    response_status integer,
+    response_body TEXT,
+    created_at timestamp(6) NOT NULL DEFAULT now(),
+    expires_at timestamp(6) NOT NULL,
+    PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX idx_submission_idempotency_keys_expires_at ON submission_idempotency_keys (expires_at);
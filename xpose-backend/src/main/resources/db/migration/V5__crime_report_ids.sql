@@ -0,0 +1,10 @@
+-- crime_reports' primary key has to include the partition keys (archived, submitted_at), so it no longer
+-- makes the tracking ID unique on its own. Every new report inserts its ID here in the same transaction.
+CREATE TABLE crime_report_ids (
+    id varchar(32) NOT NULL,
+    created_at timestamp(6) NOT NULL DEFAULT now(),
+    PRIMARY KEY (id)
+);
+
+INSERT INTO crime_report_ids (id)
+SELECT DISTINCT id FROM crime_reports;
@@ -0,0 +1,98 @@
+package com.crimereport.xpose.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboundCallExecutorLoadTest {
+
+    private static final int CALLS = 200;
+    private static final int WORKERS = 16;
+    private static final long DEPENDENCY_LATENCY_MS = 100;
+
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger peakConcurrent = new AtomicInteger();
+    private HttpServer server;
+
+    @BeforeEach
+    void startSlowDependency() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/classify", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopSlowDependency() {
+        server.stop(0);
+    }
+
+    // asserts on overlap rather than wall-clock time, which is too noisy for the unit suite
+    @Test
+    void virtualThreadsOverlapBlockingCallsBeyondThePoolSize() {
+        AsyncTaskExecutor pooled = new AsyncConfig().outboundCallExecutor(false, WORKERS, CALLS);
+        runLoad(pooled);
+        int pooledPeak = peakConcurrent.getAndSet(0);
+        ((ThreadPoolTaskExecutor) pooled).shutdown();
+
+        AsyncTaskExecutor virtual = new AsyncConfig().outboundCallExecutor(true, WORKERS, CALLS);
+        runLoad(virtual);
+        int virtualPeak = peakConcurrent.get();
+
+        assertTrue(pooledPeak <= WORKERS);
+        assertTrue(virtualPeak > WORKERS, "virtual threads should exceed the platform pool size");
+    }
+
+    private void runLoad(AsyncTaskExecutor executor) {
+        URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/classify");
+        List<CompletableFuture<Integer>> calls = new ArrayList<>();
+        for (int i = 0; i < CALLS; i++) {
+            calls.add(CompletableFuture.supplyAsync(() -> blockingGet(uri), executor));
+        }
+        calls.forEach(call -> assertEquals(200, call.join()));
+    }
+
+    private int blockingGet(URI uri) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
+            try (InputStream in = connection.getInputStream()) {
+                in.readAllBytes();
+            }
+            return connection.getResponseCode();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int now = concurrent.incrementAndGet();
+        peakConcurrent.accumulateAndGet(now, Math::max);
+        try {
+            Thread.sleep(DEPENDENCY_LATENCY_MS);
+            exchange.sendResponseHeaders(200, 2);
+            exchange.getResponseBody().write("{}".getBytes());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            concurrent.decrementAndGet();
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.crimereport.xpose.services;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeatmapServiceTest {
+
+    @Test
+    void mapsCoordinatesToSlippyTiles() {
+        assertEquals(731, HeatmapService.tileX(77.2090, 10));
+        assertEquals(426, HeatmapService.tileY(28.6139, 10));
+        assertEquals(1, HeatmapService.tileX(0.0, 1));
+        assertEquals(1, HeatmapService.tileY(-0.0001, 1));
+    }
+
+    @Test
+    void clampsPolesAndAntimeridian() {
+        assertEquals(0, HeatmapService.tileY(89.9, 8));
+        assertEquals(255, HeatmapService.tileY(-89.9, 8));
+        assertEquals(255, HeatmapService.tileX(180.0, 8));
+        assertThrows(IllegalArgumentException.class, () -> HeatmapService.validate(HeatmapService.MAX_ZOOM + 1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> HeatmapService.validate(5, 32, 0));
+    }
+}
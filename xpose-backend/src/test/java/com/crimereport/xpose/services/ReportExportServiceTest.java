@@ -0,0 +1,28 @@
+package com.crimereport.xpose.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportExportServiceTest {
+
+    @Test
+    void quotesFieldsThatWouldBreakTheRow() {
+        assertEquals("", ReportExportService.csv(null));
+        assertEquals("Pune", ReportExportService.csv("Pune"));
+        assertEquals("\"MG Road, Pune\"", ReportExportService.csv("MG Road, Pune"));
+        assertEquals("\"he said \"\"help\"\"\"", ReportExportService.csv("he said \"help\""));
+        assertEquals("\"line one\nline two\"", ReportExportService.csv("line one\nline two"));
+    }
+
+    @Test
+    void neutralizesSpreadsheetFormulas() {
+        assertEquals("'=1+2", ReportExportService.csv("=1+2"));
+        assertEquals("\"'=HYPERLINK(\"\"x\"\")\"", ReportExportService.csv("=HYPERLINK(\"x\")"));
+        assertEquals("'@SUM(A1)", ReportExportService.csv("@SUM(A1)"));
+        assertEquals("-73.85", ReportExportService.csv(-73.85));
+        assertEquals("2025-01-02 03:04:05", ReportExportService.csv(LocalDateTime.of(2025, 1, 2, 3, 4, 5, 600)));
+    }
+}
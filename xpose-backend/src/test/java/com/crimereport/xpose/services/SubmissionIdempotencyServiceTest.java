@@ -0,0 +1,32 @@
+package com.crimereport.xpose.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubmissionIdempotencyServiceTest {
+
+    @Test
+    void acceptsOnlyShortPrintableKeys() {
+        assertTrue(SubmissionIdempotencyService.isValidKey("3f2b9c1e-7d4a-4e8b-9a61-0c5d2e7f8a90"));
+        assertFalse(SubmissionIdempotencyService.isValidKey(""));
+        assertFalse(SubmissionIdempotencyService.isValidKey("has space"));
+        assertFalse(SubmissionIdempotencyService.isValidKey("k".repeat(SubmissionIdempotencyService.MAX_KEY_LENGTH + 1)));
+    }
+
+    @Test
+    void hashCoversBodyAndEvidenceFiles() {
+        String body = "{\"categoryId\":1,\"description\":\"Phone snatched near the station\"}";
+        List<MultipartFile> photo = List.of(new MockMultipartFile("evidenceFiles", "photo.jpg", "image/jpeg", new byte[128]));
+        List<MultipartFile> otherPhoto = List.of(new MockMultipartFile("evidenceFiles", "photo.jpg", "image/jpeg", new byte[256]));
+
+        assertEquals(SubmissionIdempotencyService.requestHash(body, photo), SubmissionIdempotencyService.requestHash(body, photo));
+        assertNotEquals(SubmissionIdempotencyService.requestHash(body, null), SubmissionIdempotencyService.requestHash(body, photo));
+        assertNotEquals(SubmissionIdempotencyService.requestHash(body, photo), SubmissionIdempotencyService.requestHash(body, otherPhoto));
+        assertNotEquals(SubmissionIdempotencyService.requestHash(body, null), SubmissionIdempotencyService.requestHash(body + " ", null));
+    }
+}
@@ -0,0 +1,184 @@
+package com.crimereport.xpose.storage;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class S3BlobStoreTest {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, String> hashes = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private S3BlobStore store;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void startStandIn() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        store = new S3BlobStore(URI.create("http://127.0.0.1:" + server.getAddress().getPort()),
+                "us-east-1", "bucket", "access", "secret", "xpose/", Duration.ofSeconds(2), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void stopStandIn() {
+        server.stop(0);
+    }
+
+    @Test
+    void putStatOpenAndDelete() throws IOException {
+        byte[] content = "evidence-bytes-0123456789".getBytes(StandardCharsets.UTF_8);
+        store.put(BlobStore.EVIDENCE, "photo one.jpg", new ByteArrayInputStream(content), content.length, "abc123");
+
+        assertTrue(objects.containsKey("/bucket/xpose/evidence/photo%20one.jpg"));
+
+        Optional<BlobInfo> info = store.stat(BlobStore.EVIDENCE, "photo one.jpg");
+        assertTrue(info.isPresent());
+        assertEquals(content.length, info.get().getSize());
+        assertEquals("abc123", info.get().getContentHash());
+
+        try (InputStream in = store.open(BlobStore.EVIDENCE, "photo one.jpg", 9, 13)) {
+            assertEquals("bytes", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        assertTrue(store.delete(BlobStore.EVIDENCE, "photo one.jpg"));
+        assertTrue(store.stat(BlobStore.EVIDENCE, "photo one.jpg").isEmpty());
+    }
+
+    @Test
+    void tieredStoreReadsTransparentlyAfterDemotion() throws IOException {
+        LocalBlobStore local = new LocalBlobStore(Map.of(BlobStore.EVIDENCE, tempDir));
+        TieredBlobStore tiered = new TieredBlobStore(local, store);
+
+        Path source = Files.writeString(tempDir.resolve("upload.tmp"), "cold evidence");
+        tiered.put(BlobStore.EVIDENCE, "case.mp4", source);
+        assertTrue(tiered.localPath(BlobStore.EVIDENCE, "case.mp4").isPresent());
+
+        assertTrue(tiered.demote(BlobStore.EVIDENCE, "case.mp4"));
+        assertTrue(tiered.localPath(BlobStore.EVIDENCE, "case.mp4").isEmpty());
+        assertNotNull(hashes.get("/bucket/xpose/evidence/case.mp4"));
+
+        try (InputStream in = tiered.open(BlobStore.EVIDENCE, "case.mp4")) {
+            assertEquals("cold evidence", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void localStoreShardsAndFallsBackToLegacyLayout() throws IOException {
+        LocalBlobStore local = new LocalBlobStore(Map.of(BlobStore.EVIDENCE, tempDir));
+        local.put(BlobStore.EVIDENCE, "abc.jpg", new ByteArrayInputStream(new byte[]{1, 2, 3}), 3, null);
+
+        Path stored = local.localPath(BlobStore.EVIDENCE, "abc.jpg").orElseThrow();
+        assertEquals(3, tempDir.relativize(stored).getNameCount());
+
+        Files.write(tempDir.resolve("legacy.jpg"), new byte[]{4, 5});
+        assertEquals(2, local.stat(BlobStore.EVIDENCE, "legacy.jpg").orElseThrow().getSize());
+        assertThrows(IllegalArgumentException.class,
+                () -> local.put(BlobStore.EVIDENCE, "../escape", new ByteArrayInputStream(new byte[0]), 0, null));
+    }
+
+    @Test
+    void localStoreRejectsContentThatDoesNotMatchLengthOrHash() throws IOException {
+        LocalBlobStore local = new LocalBlobStore(Map.of(BlobStore.EVIDENCE, tempDir));
+        byte[] content = "evidence".getBytes(StandardCharsets.UTF_8);
+        Path source = Files.write(tempDir.resolve("source.bin"), content);
+        String hash = S3BlobStore.sha256(source);
+
+        assertThrows(IllegalArgumentException.class, () -> local.put(BlobStore.EVIDENCE, "short.jpg",
+                new ByteArrayInputStream(content), content.length + 1, null));
+        assertThrows(IllegalArgumentException.class, () -> local.put(BlobStore.EVIDENCE, "tampered.jpg",
+                new ByteArrayInputStream("evidencE".getBytes(StandardCharsets.UTF_8)), content.length, hash));
+        assertTrue(local.localPath(BlobStore.EVIDENCE, "short.jpg").isEmpty());
+        assertTrue(local.localPath(BlobStore.EVIDENCE, "tampered.jpg").isEmpty());
+
+        local.put(BlobStore.EVIDENCE, "ok.jpg", new ByteArrayInputStream(content), content.length, hash);
+        assertEquals(content.length, local.stat(BlobStore.EVIDENCE, "ok.jpg").orElseThrow().getSize());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String auth = exchange.getRequestHeaders().getFirst("Authorization");
+        if (auth == null || !auth.startsWith("AWS4-HMAC-SHA256 Credential=access/")
+                || exchange.getRequestHeaders().getFirst("x-amz-date") == null) {
+            exchange.sendResponseHeaders(403, -1);
+            exchange.close();
+            return;
+        }
+
+        String path = exchange.getRequestURI().getRawPath();
+        byte[] object = objects.get(path);
+        switch (exchange.getRequestMethod()) {
+            case "PUT" -> {
+                objects.put(path, exchange.getRequestBody().readAllBytes());
+                String hash = exchange.getRequestHeaders().getFirst("x-amz-meta-sha256");
+                if (hash != null) {
+                    hashes.put(path, hash);
+                }
+                exchange.sendResponseHeaders(200, -1);
+            }
+            case "HEAD" -> {
+                if (object == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                    break;
+                }
+                exchange.getResponseHeaders().add("Last-Modified",
+                        DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC)));
+                exchange.getResponseHeaders().add("ETag", "\"etag\"");
+                if (hashes.containsKey(path)) {
+                    exchange.getResponseHeaders().add("x-amz-meta-sha256", hashes.get(path));
+                }
+                exchange.getResponseHeaders().add("Content-Length", String.valueOf(object.length));
+                exchange.sendResponseHeaders(200, -1);
+            }
+            case "GET" -> {
+                if (object == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                    break;
+                }
+                byte[] body = object;
+                String range = exchange.getRequestHeaders().getFirst("Range");
+                if (range != null) {
+                    String[] bounds = range.substring("bytes=".length()).split("-", -1);
+                    int start = Integer.parseInt(bounds[0]);
+                    int end = bounds[1].isEmpty() ? object.length - 1 : Integer.parseInt(bounds[1]);
+                    body = Arrays.copyOfRange(object, start, end + 1);
+                    exchange.sendResponseHeaders(206, body.length);
+                } else {
+                    exchange.sendResponseHeaders(200, body.length);
+                }
+                exchange.getResponseBody().write(body);
+            }
+            case "DELETE" -> {
+                objects.remove(path);
+                hashes.remove(path);
+                exchange.sendResponseHeaders(204, -1);
+            }
+            default -> exchange.sendResponseHeaders(405, -1);
+        }
+        exchange.close();
+    }
+}
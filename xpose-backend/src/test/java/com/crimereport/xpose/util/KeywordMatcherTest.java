@@ -0,0 +1,48 @@
+package com.crimereport.xpose.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeywordMatcherTest {
+
+    private final KeywordMatcher matcher = new KeywordMatcher(Map.of(
+            "crime", List.of("help", "theft", "brown sugar", "he", "gun"),
+            "legit", List.of("incident", "happened"),
+            "urgent", List.of("gun", "right now")));
+
+    @Test
+    void matchesWholeWordsOnly() {
+        KeywordMatcher.Result result = matcher.match("The helpful neighbour said the theft happened. Shells everywhere");
+
+        assertEquals(List.of("theft"), result.terms("crime"));
+        assertEquals(1, result.count("legit"));
+        assertEquals(0, result.count("urgent"));
+        assertEquals(9, result.wordCount());
+    }
+
+    @Test
+    void foldsCaseAndWhitespaceAndCountsOverlappingTerms() {
+        KeywordMatcher.Result result = matcher.match("HELP!  He sells BROWN\n  SUGAR with a GUN, right   now");
+
+        assertEquals(4, result.count("crime"));
+        assertTrue(result.terms("crime").containsAll(List.of("help", "he", "brown sugar", "gun")));
+        assertEquals(2, result.count("urgent"));
+        assertEquals(10, result.wordCount());
+    }
+
+    @Test
+    void countsDistinctTermsAndHandlesNonLatinScripts() {
+        KeywordMatcher hindi = new KeywordMatcher(Map.of("crime", List.of("चोरी", "नशा")));
+
+        KeywordMatcher.Result result = hindi.match("कल रात चोरी हुई, फिर से चोरी और नशा");
+
+        assertEquals(2, hindi.match("चोरी चोरी नशा").count("crime"));
+        assertEquals(2, result.count("crime"));
+        assertEquals(0, hindi.match("चोरियाँ").count("crime"));
+        assertEquals(0, matcher.match(null).count("crime"));
+    }
+}
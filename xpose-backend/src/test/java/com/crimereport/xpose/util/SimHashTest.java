@@ -0,0 +1,31 @@
+package com.crimereport.xpose.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimHashTest {
+
+    private static final String REPORT = "A group of men were selling drugs near the bus stand on MG Road late last night, "
+            + "people were scared and the shops closed early because of the fight";
+
+    @Test
+    void nearIdenticalTextsAreClose() {
+        SimHash original = SimHash.of(REPORT);
+        SimHash reworded = SimHash.of(REPORT.toUpperCase().replace(",", "") + "!!");
+        SimHash edited = SimHash.of(REPORT + " please send help");
+
+        assertEquals(0, original.distance(reworded));
+        assertTrue(original.distance(edited) <= 7);
+        assertEquals(29, original.words());
+    }
+
+    @Test
+    void unrelatedTextsAreFar() {
+        SimHash original = SimHash.of(REPORT);
+        SimHash other = SimHash.of("My phone was stolen from my bag while I was travelling in the metro to the airport yesterday morning");
+
+        assertTrue(original.distance(other) > 10);
+        assertEquals(0, SimHash.of(null).words());
+    }
+}
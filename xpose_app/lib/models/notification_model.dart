@@ -39,6 +39,11 @@ class Notification {
     );
   }
 
+  // WebSocket pushes carry the notification without its recipient, which is always the signed-in user.
+  factory Notification.fromPush(Map<String, dynamic> json, UserModel recipient) {
+    return Notification.fromJson({...json, 'recipient': recipient.toJson()});
+  }
+
   Map<String, dynamic> toJson() {
     return {
       'id': id,
@@ -38,6 +38,7 @@ class _CrimeReportPageState extends State<CrimeReportPage> {
   bool _isRecaptchaVerified = false;
   String _loadingStatus = '';
   final CrimeReportService _crimeReportService = CrimeReportService();
+  String _idempotencyKey = CrimeReportService.newIdempotencyKey();
 
   Future<void> _checkLocationPermission() async {
     bool serviceEnabled = await Geolocator.isLocationServiceEnabled();
@@ -394,8 +395,16 @@ class _CrimeReportPageState extends State<CrimeReportPage> {
         district: _selectedDistrict,
         policeStation: _selectedPoliceStation!,
         files: _selectedFiles,
+        idempotencyKey: _idempotencyKey,
       );
 
+      // keep the key while the outcome is unknown or retryable so a retry is recognised as the same draft
+      final statusCode = response['statusCode'] as int?;
+      final retryable = response['status'] == 'ERROR' || statusCode == 409 || (statusCode != null && statusCode >= 500);
+      if (!retryable) {
+        _idempotencyKey = CrimeReportService.newIdempotencyKey();
+      }
+
       if (mounted) {
         if (response['success'] == true) {
           _formKey.currentState?.reset();
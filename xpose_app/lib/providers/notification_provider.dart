@@ -1,7 +1,13 @@
 
+import 'dart:convert';
+import 'package:firebase_auth/firebase_auth.dart';
+import 'package:flutter_dotenv/flutter_dotenv.dart';
 import 'package:flutter_riverpod/flutter_riverpod.dart';
+import 'package:stomp_dart_client/stomp_dart_client.dart';
+import '../helpers/user_preferences.dart';
 import '../services/notification_service.dart';
 import '../models/notification_model.dart' as notif_model;
+import '../models/user_model.dart';
 
 class NotificationState {
   final int unreadCount;
@@ -28,6 +34,14 @@ class NotificationState {
 }
 
 class NotificationNotifier extends StateNotifier<NotificationState> {
+  static final String wsUrl = '${dotenv.env['WS_BASE_URL']}';
+
+  StompClient? _stompClient;
+  UserModel? _user;
+
+  // read by the client on every (re)connect, so beforeConnect can swap in a fresh ID token
+  final Map<String, String> _connectHeaders = {};
+
   NotificationNotifier() : super(NotificationState(unreadCount: 0, notifications: [])) {
     _initialize();
   }
@@ -35,6 +49,78 @@ class NotificationNotifier extends StateNotifier<NotificationState> {
   Future<void> _initialize() async {
     await fetchUnreadCount();
     await fetchNotifications();
+    await _connectWebSocket();
+  }
+
+  Future<void> _connectWebSocket() async {
+    _user = await UserPreferences.getUser();
+    if (_user == null || FirebaseAuth.instance.currentUser == null) return;
+
+    _stompClient = StompClient(
+      config: StompConfig(
+        url: '${wsUrl.replaceFirst('http', 'ws')}/ws',
+        beforeConnect: _refreshIdToken,
+        onConnect: _onConnect,
+        onWebSocketError: (dynamic error) => print('Notification WebSocket error: $error'),
+        onStompError: (StompFrame frame) => print('Notification STOMP error: ${frame.body}'),
+        stompConnectHeaders: _connectHeaders,
+        webSocketConnectHeaders: {},
+      ),
+    );
+
+    _stompClient!.activate();
+  }
+
+  // the server maps the verified Firebase ID token to the user; getIdToken() refreshes it once it expires
+  Future<void> _refreshIdToken() async {
+    final token = await FirebaseAuth.instance.currentUser?.getIdToken();
+    if (token != null) {
+      _connectHeaders['Authorization'] = 'Bearer $token';
+    } else {
+      _connectHeaders.remove('Authorization');
+    }
+  }
+
+  void _onConnect(StompFrame frame) {
+    _stompClient!.subscribe(
+      destination: '/user/queue/notifications',
+      callback: (StompFrame frame) {
+        if (frame.body == null) return;
+        final data = jsonDecode(frame.body!);
+        if (data['unreadCount'] != null) {
+          state = state.copyWith(unreadCount: data['unreadCount']);
+        }
+        if (data['type'] == 'NOTIFICATIONS' && data['notifications'] is List) {
+          _mergePushed(data['notifications'] as List);
+        }
+      },
+    );
+
+    // Anything pushed while we were disconnected is picked up over REST.
+    fetchUnreadCount();
+    fetchNotifications();
+  }
+
+  void _mergePushed(List<dynamic> items) {
+    final user = _user;
+    if (user == null) return;
+
+    final pushed = items
+        .map((item) => notif_model.Notification.fromPush(Map<String, dynamic>.from(item), user))
+        .toList();
+    final pushedIds = pushed.map((n) => n.id).toSet();
+    final merged = [
+      ...pushed,
+      ...state.notifications.where((n) => !pushedIds.contains(n.id)),
+    ]..sort((a, b) => b.createdAt.compareTo(a.createdAt));
+    state = state.copyWith(notifications: merged);
+  }
+
+  @override
+  void dispose() {
+    _stompClient?.deactivate();
+    _stompClient = null;
+    super.dispose();
   }
 
   Future<void> fetchUnreadCount() async {
@@ -43,9 +129,9 @@ class NotificationNotifier extends StateNotifier<NotificationState> {
 
       final userId = await NotificationService.getCurrentUserId();
       if (userId != null) {
-        final unreadNotifications = await NotificationService.getUnreadNotificationsForUser(userId);
+        final unreadCount = await NotificationService.getUnreadCount(userId);
         state = state.copyWith(
-          unreadCount: unreadNotifications.length,
+          unreadCount: unreadCount,
           isLoading: false,
         );
       } else {
@@ -79,7 +165,9 @@ class NotificationNotifier extends StateNotifier<NotificationState> {
     try {
       await NotificationService.markNotificationAsRead(notificationId);
       await fetchNotifications();
-      await fetchUnreadCount();
+      if (_stompClient?.connected != true) {
+        await fetchUnreadCount();
+      }
     } catch (e) {
       rethrow;
     }
@@ -5,10 +5,19 @@ import 'package:flutter_dotenv/flutter_dotenv.dart';
 import 'package:file_picker/file_picker.dart';
 import 'package:http_parser/http_parser.dart';
 import 'dart:typed_data';
+import 'dart:math';
 
 class CrimeReportService {
   final String _baseUrl = dotenv.env['API_BASE_URL'] ?? 'http://192.168.220.2:8080';
 
+  static final Random _random = Random.secure();
+
+  /// One key per report draft: every retry of the same draft must send the same key
+  /// so the backend returns the original result instead of creating another report.
+  static String newIdempotencyKey() {
+    return List.generate(16, (_) => _random.nextInt(256).toRadixString(16).padLeft(2, '0')).join();
+  }
+
   Future<List<String>> fetchStates() async {
     try {
       final response = await http.get(Uri.parse('$_baseUrl/api/police-stations/states'));
@@ -113,10 +122,11 @@ class CrimeReportService {
     required String? district,
     required String policeStation,
     required List<PlatformFile> files,
+    required String idempotencyKey,
   }) async {
     try {
       var request = http.MultipartRequest('POST', Uri.parse('$_baseUrl/api/crime-reports/submit'));
-
+      request.headers['Idempotency-Key'] = idempotencyKey;
 
       request.fields['crimeReport'] = json.encode({
         'categoryId': categoryId,
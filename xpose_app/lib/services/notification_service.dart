@@ -35,6 +35,20 @@ class NotificationService {
     }
   }
 
+  static Future<int> getUnreadCount(int userId) async {
+    final response = await http.get(
+      Uri.parse('$baseUrl/user/$userId/unread-count'),
+      headers: {'Content-Type': 'application/json'},
+    );
+
+    if (response.statusCode == 200) {
+      Map<String, dynamic> body = jsonDecode(response.body);
+      return (body['unreadCount'] as num).toInt();
+    } else {
+      throw Exception('Failed to load unread count: ${response.body}');
+    }
+  }
+
   static Future<notif_model.Notification> markNotificationAsRead(int notificationId) async {
     final response = await http.put(
       Uri.parse('$baseUrl/$notificationId/read'),